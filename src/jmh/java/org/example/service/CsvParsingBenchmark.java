@@ -0,0 +1,86 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvParsingBenchmark {
+
+    private static final String HEADER =
+            "name,coordinates.x,coordinates.y,realHero,hasToothpick,car.name,mood,impactSpeed,minutesOfWaiting,weaponType";
+
+    @Param("10000")
+    private int rows;
+
+    private byte[] csv;
+
+    @Setup
+    public void writeSample() {
+        StringBuilder sample = new StringBuilder(HEADER).append('\n');
+        for (int i = 0; i < rows; i++) {
+            sample.append("Hero_").append(i).append(',')
+                    .append(i % 100).append(',')
+                    .append(-900.0 + i * 0.25).append(',')
+                    .append(i % 2 == 0).append(',')
+                    .append(i % 3 == 0 ? "" : "true").append(',')
+                    .append("\"Car ").append(i % 1000).append("\"").append(',')
+                    .append(i % 3 == 0 ? "CALM" : "RAGE").append(',')
+                    .append(i % 345).append(".5").append(',')
+                    .append(i).append(".75").append(',')
+                    .append(i % 4 == 0 ? "" : "BAT").append('\n');
+        }
+        csv = sample.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int legacyParseCsvLine(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8))) {
+            LegacyCsvParser parser = new LegacyCsvParser(reader.readLine());
+            int parsed = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                blackhole.consume(parser.parse(line));
+                parsed++;
+            }
+            return parsed;
+        }
+    }
+
+    @Benchmark
+    public int csvTokenizer(Blackhole blackhole) throws IOException {
+        try (CsvRecordReader reader = new CsvRecordReader(new ByteArrayInputStream(csv))) {
+            int parsed = 0;
+            HumanBeingDTO dto;
+            while ((dto = reader.next()) != null) {
+                blackhole.consume(dto);
+                parsed++;
+            }
+            return parsed;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package org.example.service;
+
+import org.example.dto.CarDTO;
+import org.example.dto.CoordinatesDTO;
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.Mood;
+import org.example.entity.WeaponType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class LegacyCsvParser {
+
+    private final Map<String, Integer> headerMap = new HashMap<>();
+
+    LegacyCsvParser(String headerLine) {
+        String[] headers = headerLine.split(",");
+        for (int i = 0; i < headers.length; i++) {
+            headerMap.put(headers[i].trim(), i);
+        }
+    }
+
+    HumanBeingDTO parse(String line) {
+        return parseCSVRow(parseCSVLine(line));
+    }
+
+    private String[] parseCSVLine(String line) {
+        List<String> result = new ArrayList<>();
+        boolean inQuotes = false;
+        StringBuilder current = new StringBuilder();
+
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                result.add(current.toString().trim());
+                current = new StringBuilder();
+            } else {
+                current.append(c);
+            }
+        }
+        result.add(current.toString().trim());
+        return result.toArray(new String[0]);
+    }
+
+    private HumanBeingDTO parseCSVRow(String[] values) {
+        HumanBeingDTO dto = new HumanBeingDTO();
+
+        dto.setName(getCSVValue(values, "name"));
+
+        CoordinatesDTO coords = new CoordinatesDTO();
+        coords.setX(Integer.parseInt(getCSVValue(values, "coordinates.x", "x")));
+        coords.setY(Double.parseDouble(getCSVValue(values, "coordinates.y", "y")));
+        dto.setCoordinates(coords);
+
+        dto.setRealHero(Boolean.parseBoolean(getCSVValue(values, "realHero", "false")));
+
+        String hasToothpick = getCSVValue(values, "hasToothpick");
+        if (hasToothpick != null && !hasToothpick.isEmpty() && !hasToothpick.equalsIgnoreCase("null")) {
+            dto.setHasToothpick(Boolean.parseBoolean(hasToothpick));
+        }
+
+        CarDTO car = new CarDTO();
+        car.setName(getCSVValue(values, "car.name", "carName"));
+        dto.setCar(car);
+
+        String moodStr = getCSVValue(values, "mood");
+        if (moodStr == null || moodStr.isEmpty()) {
+            throw new IllegalArgumentException("Mood cannot be null");
+        }
+        dto.setMood(Mood.valueOf(moodStr));
+
+        dto.setImpactSpeed(Float.parseFloat(getCSVValue(values, "impactSpeed")));
+
+        dto.setMinutesOfWaiting(Float.parseFloat(getCSVValue(values, "minutesOfWaiting")));
+
+        String weaponType = getCSVValue(values, "weaponType");
+        if (weaponType != null && !weaponType.isEmpty() && !weaponType.equalsIgnoreCase("null")) {
+            dto.setWeaponType(WeaponType.valueOf(weaponType));
+        }
+
+        return dto;
+    }
+
+    private String getCSVValue(String[] values, String key) {
+        return getCSVValue(values, key, null);
+    }
+
+    private String getCSVValue(String[] values, String key, String altKey) {
+        Integer index = headerMap.get(key);
+        if (index == null && altKey != null) {
+            index = headerMap.get(altKey);
+        }
+        if (index != null && index < values.length) {
+            String value = values[index].trim();
+            if (value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            return value.isEmpty() ? null : value;
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.example.config;
+
+import org.example.entity.ImportHistory;
+import org.example.repository.ImportHistoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+
+@Component
+public class InterruptedImportInitializer implements ApplicationRunner {
+
+    @Autowired
+    private ImportHistoryRepository importHistoryRepository;
+
+    private static final List<ImportHistory.ImportStatus> UNFINISHED = List.of(
+            ImportHistory.ImportStatus.QUEUED,
+            ImportHistory.ImportStatus.IN_PROGRESS,
+            ImportHistory.ImportStatus.PAUSED
+    );
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Date now = new Date();
+        UNFINISHED.forEach(status -> importHistoryRepository.failAllWithStatus(status,
+                ImportHistory.ImportStatus.FAILED, "Import was interrupted by a server restart", now));
+    }
+}
\ No newline at end of file
@@ -1,11 +1,13 @@
 package org.example.controller;
 
 import jakarta.validation.Valid;
+import org.example.dto.HumanBeingBatchItemDTO;
 import org.example.dto.HumanBeingDTO;
 import org.example.entity.WeaponType;
+import org.example.service.HumanBeingGroupCommitter;
 import org.example.service.HumanBeingService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,17 +28,25 @@ public class HumanBeingController {
     @Autowired
     private HumanBeingService humanBeingService;
 
+    @Autowired
+    private HumanBeingGroupCommitter groupCommitter;
+
     @Autowired
     private WebSocketNotificationService notificationService;
 
+    @Value("${human-beings.batch.max-size:10000}")
+    private int maxBatchSize;
+
     @GetMapping
-    public ResponseEntity<Page<HumanBeingDTO>> getAllHumanBeings(
+    public ResponseEntity<?> getAllHumanBeings(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDir,
             @RequestParam(required = false) String filterBy,
-            @RequestParam(required = false) String filterValue) {
+            @RequestParam(required = false) String filterValue,
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String countStrategy) {
 
         Sort sort = Sort.unsorted();
         if (sortBy != null && !sortBy.isEmpty()) {
@@ -47,8 +57,33 @@ public class HumanBeingController {
         }
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<HumanBeingDTO> result = humanBeingService.getAllHumanBeings(pageable, filterBy, filterValue);
-        return ResponseEntity.ok(result);
+        try {
+            return ResponseEntity.ok(humanBeingService.getAllHumanBeings(pageable, filterBy, filterValue, filter,
+                    countStrategy));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getHumanBeingSlice(
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String filterBy,
+            @RequestParam(required = false) String filterValue,
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String cursor) {
+        if (size < 1 || size > 1000) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Size must be between 1 and 1000"));
+        }
+
+        try {
+            return ResponseEntity.ok(humanBeingService.getHumanBeingSlice(filterBy, filterValue, filter, sortBy,
+                    sortDir, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @GetMapping("/{id}")
@@ -86,7 +121,7 @@ public class HumanBeingController {
         }
 
         try {
-            HumanBeingDTO created = humanBeingService.createHumanBeing(dto);
+            HumanBeingDTO created = groupCommitter.create(dto);
             notificationService.notifyAll("created", created);
             return ResponseEntity.status(HttpStatus.CREATED).body(created);
         } catch (IllegalArgumentException e) {
@@ -97,6 +132,39 @@ public class HumanBeingController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> createHumanBeings(@RequestBody List<HumanBeingDTO> dtos,
+                                               @RequestParam(value = "atomic", defaultValue = "false") boolean atomic) {
+        if (dtos.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Batch is empty"));
+        }
+        if (dtos.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                    "Batch cannot contain more than " + maxBatchSize + " items"));
+        }
+
+        try {
+            List<HumanBeingBatchItemDTO> items = humanBeingService.createHumanBeings(dtos, atomic);
+            long created = items.stream().filter(item -> HumanBeingService.CREATED.equals(item.getStatus())).count();
+            if (created > 0) {
+                notificationService.notifyAll("created", Map.of("batch", true, "count", created));
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("created", created);
+            response.put("rejected", items.stream()
+                    .filter(item -> HumanBeingService.REJECTED.equals(item.getStatus())).count());
+            response.put("items", items);
+
+            HttpStatus status = created == items.size() ? HttpStatus.CREATED
+                    : created > 0 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateHumanBeing(@PathVariable Long id,
                                               @Valid @RequestBody HumanBeingDTO dto,
@@ -4,14 +4,20 @@ import org.example.dto.ImportHistoryDTO;
 import org.example.dto.ImportProgressDTO;
 import org.example.entity.ImportHistory;
 import org.example.service.ImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/import")
@@ -25,25 +31,30 @@ public class ImportController {
     public ResponseEntity<?> uploadFile(
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "userName", defaultValue = "user") String userName,
-            @RequestParam(value = "isAdmin", defaultValue = "false") Boolean isAdmin) {
+            @RequestParam(value = "isAdmin", defaultValue = "false") Boolean isAdmin,
+            @RequestParam(value = "mode", required = false) ImportHistory.ImportMode mode) {
 
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
         }
 
         String fileName = file.getOriginalFilename();
-        if (fileName == null || (!fileName.toLowerCase().endsWith(".csv") && !fileName.toLowerCase().endsWith(".json"))) {
-            return ResponseEntity.badRequest().body(Map.of("error", "File must be CSV or JSON"));
+        if (!isSupportedFile(fileName)) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                    "File must be CSV, JSON or NDJSON, optionally compressed as .gz or .zip"));
         }
 
         try {
-            ImportHistory history = importService.importFileAsync(file, userName, isAdmin);
+            ImportHistory history = importService.importFileAsync(file, userName, isAdmin, mode);
 
             Map<String, Object> response = new HashMap<>();
             response.put("importId", history.getId());
             response.put("fileName", fileName);
-            response.put("status", "IN_PROGRESS");
-            response.put("message", "Import started");
+            response.put("status", history.getStatus().name());
+            response.put("message", importMessage(history));
+            if (history.getDuplicateOf() != null) {
+                response.put("duplicateOf", history.getDuplicateOf());
+            }
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -56,7 +67,8 @@ public class ImportController {
     public ResponseEntity<?> uploadMultipleFiles(
             @RequestParam("files") MultipartFile[] files,
             @RequestParam(value = "userName", defaultValue = "user") String userName,
-            @RequestParam(value = "isAdmin", defaultValue = "false") Boolean isAdmin) {
+            @RequestParam(value = "isAdmin", defaultValue = "false") Boolean isAdmin,
+            @RequestParam(value = "mode", required = false) ImportHistory.ImportMode mode) {
 
         if (files.length == 0) {
             return ResponseEntity.badRequest().body(Map.of("error", "No files provided"));
@@ -72,18 +84,21 @@ public class ImportController {
             if (file.isEmpty()) continue;
 
             String fileName = file.getOriginalFilename();
-            if (fileName == null || (!fileName.toLowerCase().endsWith(".csv") && !fileName.toLowerCase().endsWith(".json"))) {
+            if (!isSupportedFile(fileName)) {
                 continue;
             }
 
             try {
-                ImportHistory history = importService.importFileAsync(file, userName, isAdmin);
+                ImportHistory history = importService.importFileAsync(file, userName, isAdmin, mode);
 
                 Map<String, Object> importInfo = new HashMap<>();
                 importInfo.put("importId", history.getId());
                 importInfo.put("fileName", fileName);
-                importInfo.put("status", "IN_PROGRESS");
-                importInfo.put("message", "Import started");
+                importInfo.put("status", history.getStatus().name());
+                importInfo.put("message", importMessage(history));
+                if (history.getDuplicateOf() != null) {
+                    importInfo.put("duplicateOf", history.getDuplicateOf());
+                }
                 imports.add(importInfo);
             } catch (Exception e) {
                 Map<String, Object> importInfo = new HashMap<>();
@@ -96,10 +111,81 @@ public class ImportController {
 
         Map<String, Object> response = new HashMap<>();
         response.put("imports", imports);
-        response.put("message", "Imports started");
+        response.put("message", "Imports queued");
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/stream", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> streamImport(
+            HttpServletRequest request,
+            @RequestParam(value = "userName", defaultValue = "user") String userName,
+            @RequestParam(value = "isAdmin", defaultValue = "false") Boolean isAdmin,
+            @RequestParam(value = "fileName", defaultValue = "stream.ndjson") String fileName) {
+
+        ImportHistory history;
+        try {
+            history = importService.importStream(request.getInputStream(), fileName, userName, isAdmin);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("importId", history.getId());
+        response.put("fileName", history.getFileName());
+        response.put("status", history.getStatus().name());
+        response.put("committedRecords", history.getCheckpointRecords() != null ? history.getCheckpointRecords() : 0);
+
+        return switch (history.getStatus()) {
+            case COMPLETED -> {
+                response.put("message", "Stream imported");
+                yield ResponseEntity.ok(response);
+            }
+            case CANCELLED -> {
+                response.put("error", history.getErrorMessage());
+                yield ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            default -> {
+                response.put("error", history.getErrorMessage());
+                yield ResponseEntity.badRequest().body(response);
+            }
+        };
+    }
+
+    @PostMapping("/{importId}/pause")
+    public ResponseEntity<?> pauseImport(@PathVariable Long importId) {
+        return controlImport(() -> importService.pauseImport(importId), "Import paused");
+    }
+
+    @PostMapping("/{importId}/resume")
+    public ResponseEntity<?> resumeImport(@PathVariable Long importId) {
+        return controlImport(() -> importService.resumeImport(importId), "Import resumed");
+    }
+
+    @PostMapping("/{importId}/cancel")
+    public ResponseEntity<?> cancelImport(@PathVariable Long importId) {
+        return controlImport(() -> importService.cancelImport(importId), "Cancellation requested");
+    }
+
+    @GetMapping("/{importId}/errors")
+    public ResponseEntity<?> downloadErrorReport(@PathVariable Long importId) {
+        try {
+            Path report = importService.getErrorReport(importId);
+            if (report == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "No rejected rows report for import " + importId));
+            }
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"" + report.getFileName() + "\"")
+                    .body(new FileSystemResource(report));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/progress/{importId}")
     public ResponseEntity<ImportProgressDTO> getProgress(@PathVariable Long importId) {
         ImportProgressDTO progress = importService.getProgress(importId);
@@ -130,4 +216,46 @@ public class ImportController {
                     .body(Map.of("error", e.getMessage()));
         }
     }
+
+    private ResponseEntity<?> controlImport(Supplier<ImportHistory> action, String message) {
+        try {
+            ImportHistory history = action.get();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("importId", history.getId());
+            response.put("fileName", history.getFileName());
+            response.put("status", history.getStatus().name());
+            response.put("checkpointRecords", history.getCheckpointRecords() != null ? history.getCheckpointRecords() : 0);
+            response.put("message", message);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private String importMessage(ImportHistory history) {
+        return history.getDuplicateOf() != null
+                ? "Identical file was already imported by import " + history.getDuplicateOf()
+                : "Import queued";
+    }
+
+    private boolean isSupportedFile(String fileName) {
+        if (fileName == null) {
+            return false;
+        }
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".zip")) {
+            return true;
+        }
+        if (lower.endsWith(".gz")) {
+            lower = lower.substring(0, lower.length() - ".gz".length());
+        }
+        return lower.endsWith(".csv") || lower.endsWith(".json") || lower.endsWith(".ndjson");
+    }
 }
\ No newline at end of file
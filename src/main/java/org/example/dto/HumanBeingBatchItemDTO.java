@@ -0,0 +1,15 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HumanBeingBatchItemDTO {
+    private Integer index;
+    private String status;
+    private Long id;
+    private String error;
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public class HumanBeingPageDTO extends PageImpl<HumanBeingDTO> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String countStrategy;
+
+    public HumanBeingPageDTO(List<HumanBeingDTO> content, Pageable pageable, long total, String countStrategy) {
+        super(content, pageable, total);
+        this.countStrategy = countStrategy;
+    }
+
+    public String getCountStrategy() {
+        return countStrategy;
+    }
+}
\ No newline at end of file
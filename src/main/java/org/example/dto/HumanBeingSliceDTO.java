@@ -0,0 +1,17 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HumanBeingSliceDTO {
+    private List<HumanBeingDTO> content;
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;
+}
\ No newline at end of file
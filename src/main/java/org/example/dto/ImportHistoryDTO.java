@@ -24,4 +24,16 @@ public class ImportHistoryDTO {
     private Integer failedRecords;
     private String errorMessage;
     private Integer currentProgress;
+    private ImportHistory.ImportMode importMode;
+    private Double rowsPerSecond;
+    private Integer checkpointRecords;
+    private Long compressedSize;
+    private Long uncompressedSize;
+    private Integer carInternHits;
+    private Integer carInternMisses;
+    private Integer coordinatesInternHits;
+    private Integer coordinatesInternMisses;
+    private String errorReportUrl;
+    private String contentHash;
+    private Long duplicateOf;
 }
\ No newline at end of file
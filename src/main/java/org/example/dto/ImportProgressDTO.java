@@ -17,4 +17,5 @@ public class ImportProgressDTO {
     private Integer failedRecords;
     private String status;
     private String errorMessage;
+    private Integer queuePosition;
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import lombok.Setter;
 public class Coordinates {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coordinates_seq")
+    @SequenceGenerator(name = "coordinates_seq", sequenceName = "coordinates_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "integer check (x <= 112)")
@@ -18,7 +18,8 @@ import java.util.Date;
 public class HumanBeing {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "human_beings_seq")
+    @SequenceGenerator(name = "human_beings_seq", sequenceName = "human_beings_seq", allocationSize = 50)
     @Column(nullable = false, unique = true)
     private Long id;
 
@@ -27,7 +28,7 @@ public class HumanBeing {
     @NotNull
     private String name;
 
-    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.LAZY)
     @JoinColumn(name = "coordinates_id", nullable = false)
     @NotNull
     private Coordinates coordinates;
@@ -43,7 +44,7 @@ public class HumanBeing {
     @Column(name = "has_toothpick")
     private Boolean hasToothpick;
 
-    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.EAGER)
+    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.LAZY)
     @JoinColumn(name = "car_id", nullable = false)
     @NotNull
     private Car car;
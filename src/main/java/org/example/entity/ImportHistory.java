@@ -59,9 +59,58 @@ public class ImportHistory {
     @Column(name = "current_progress")
     private Integer currentProgress;
 
+    @Column(name = "import_mode")
+    @Enumerated(EnumType.STRING)
+    private ImportMode importMode;
+
+    @Column(name = "checkpoint_records")
+    private Integer checkpointRecords;
+
+    @Column(name = "compressed_size")
+    private Long compressedSize;
+
+    @Column(name = "uncompressed_size")
+    private Long uncompressedSize;
+
+    @Column(name = "car_intern_hits")
+    private Integer carInternHits;
+
+    @Column(name = "car_intern_misses")
+    private Integer carInternMisses;
+
+    @Column(name = "coordinates_intern_hits")
+    private Integer coordinatesInternHits;
+
+    @Column(name = "coordinates_intern_misses")
+    private Integer coordinatesInternMisses;
+
+    @Column(name = "error_report")
+    private String errorReport;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
+    @Column(name = "mutation_generation")
+    private Long mutationGeneration;
+
     public enum ImportStatus {
+        QUEUED,
         IN_PROGRESS,
+        PAUSED,
         COMPLETED,
-        FAILED
+        FAILED,
+        CANCELLED
+    }
+
+    public enum ImportMode {
+        STANDARD,
+        STREAMING,
+        COPY,
+        CHUNKED,
+        PARALLEL,
+        PARTIAL
     }
 }
\ No newline at end of file
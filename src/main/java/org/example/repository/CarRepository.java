@@ -4,6 +4,7 @@ import org.example.entity.Car;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,7 @@ public interface CarRepository extends JpaRepository<Car, Long> {
 
     @org.springframework.data.jpa.repository.Query("SELECT c FROM Car c WHERE c.name = :name")
     Optional<Car> findByName(@org.springframework.data.repository.query.Param("name") String name);
+
+    @org.springframework.data.jpa.repository.Query("SELECT c.name, MIN(c.id) FROM Car c WHERE c.name IN :names GROUP BY c.name")
+    List<Object[]> findIdsByNames(@org.springframework.data.repository.query.Param("names") Collection<String> names);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package org.example.repository;
 
 import org.example.entity.Coordinates;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +15,7 @@ public interface CoordinatesRepository extends JpaRepository<Coordinates, Long>
     Optional<Coordinates> findById(Long id);
 
     List<Coordinates> findAll();
+
+    @Query("SELECT c.x, c.y, MIN(c.id) FROM Coordinates c WHERE c.x IN :xs AND c.y IN :ys GROUP BY c.x, c.y")
+    List<Object[]> findIdsByValues(@Param("xs") Collection<Integer> xs, @Param("ys") Collection<Double> ys);
 }
\ No newline at end of file
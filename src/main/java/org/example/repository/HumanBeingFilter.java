@@ -0,0 +1,176 @@
+package org.example.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class HumanBeingFilter {
+
+    public static final HumanBeingFilter NONE = new HumanBeingFilter(List.of());
+
+    private static final int MAX_CONDITIONS = 16;
+
+    public enum Operator {
+        NE("!=", "<>"),
+        GE(">=", ">="),
+        LE("<=", "<="),
+        EQ("=", "="),
+        GT(">", ">"),
+        LT("<", "<");
+
+        private final String symbol;
+        private final String sql;
+
+        Operator(String symbol, String sql) {
+            this.symbol = symbol;
+            this.sql = sql;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+    }
+
+    public record Condition(HumanBeingProperty property, Operator operator, Object value) {
+
+        public String predicate(String operand, String parameter) {
+            if (value == null) {
+                return operand + (operator == Operator.EQ ? " IS NULL" : " IS NOT NULL");
+            }
+            if (operator == Operator.NE && property.isNullable()) {
+                return "(" + operand + " <> " + parameter + " OR " + operand + " IS NULL)";
+            }
+            return operand + " " + operator.getSql() + " " + parameter;
+        }
+    }
+
+    private final List<Condition> conditions;
+
+    private HumanBeingFilter(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    public static HumanBeingFilter parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return NONE;
+        }
+
+        List<Condition> conditions = new ArrayList<>();
+        for (String clause : splitClauses(expression)) {
+            if (clause.isBlank()) {
+                continue;
+            }
+            int at = indexOfOperator(clause);
+            if (at < 0) {
+                throw new IllegalArgumentException("Filter condition has no operator: " + clause.trim());
+            }
+            Operator operator = operatorAt(clause, at);
+            String property = clause.substring(0, at).trim();
+            String value = clause.substring(at + operator.getSymbol().length()).trim();
+            conditions.add(condition(HumanBeingProperty.of(property), operator, value));
+        }
+        if (conditions.size() > MAX_CONDITIONS) {
+            throw new IllegalArgumentException("Filter cannot have more than " + MAX_CONDITIONS + " conditions");
+        }
+        return new HumanBeingFilter(List.copyOf(conditions));
+    }
+
+    public static HumanBeingFilter exact(String property, String value) {
+        return new HumanBeingFilter(List.of(condition(HumanBeingProperty.of(property), Operator.EQ, value)));
+    }
+
+    public HumanBeingFilter and(HumanBeingFilter other) {
+        if (other.conditions.isEmpty()) {
+            return this;
+        }
+        if (conditions.isEmpty()) {
+            return other;
+        }
+        List<Condition> combined = new ArrayList<>(conditions);
+        combined.addAll(other.conditions);
+        return new HumanBeingFilter(List.copyOf(combined));
+    }
+
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    public String shape() {
+        return conditions.stream()
+                .map(c -> c.property().getProperty() + (c.value() == null ? " null " : " ") + c.operator().name())
+                .collect(Collectors.joining(";"));
+    }
+
+    @Override
+    public String toString() {
+        return conditions.stream()
+                .map(c -> c.property().getProperty() + c.operator().getSymbol() + escape(c.value()))
+                .collect(Collectors.joining(";"));
+    }
+
+    private static List<String> splitClauses(String expression) {
+        List<String> clauses = new ArrayList<>();
+        StringBuilder clause = new StringBuilder();
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (c == '\\' && i + 1 < expression.length()
+                    && (expression.charAt(i + 1) == ';' || expression.charAt(i + 1) == '\\')) {
+                clause.append(expression.charAt(++i));
+            } else if (c == ';') {
+                clauses.add(clause.toString());
+                clause.setLength(0);
+            } else {
+                clause.append(c);
+            }
+        }
+        clauses.add(clause.toString());
+        return clauses;
+    }
+
+    private static String escape(Object value) {
+        return String.valueOf(value).replace("\\", "\\\\").replace(";", "\\;");
+    }
+
+    private static Condition condition(HumanBeingProperty property, Operator operator, String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Filter value for " + property.getProperty() + " cannot be empty");
+        }
+        if (value.equals("null") && property.isNullable()) {
+            if (operator != Operator.EQ && operator != Operator.NE) {
+                throw new IllegalArgumentException("Only = and != can compare " + property.getProperty() + " to null");
+            }
+            return new Condition(property, operator, null);
+        }
+        if (!property.isOrdered() && operator != Operator.EQ && operator != Operator.NE) {
+            throw new IllegalArgumentException("Only = and != are supported for " + property.getProperty());
+        }
+        return new Condition(property, operator, property.parse(value));
+    }
+
+    private static int indexOfOperator(String clause) {
+        for (int i = 0; i < clause.length(); i++) {
+            char c = clause.charAt(i);
+            if (c == '=' || c == '!' || c == '<' || c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Operator operatorAt(String clause, int at) {
+        for (Operator operator : Operator.values()) {
+            if (clause.startsWith(operator.getSymbol(), at)) {
+                return operator;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported filter operator in: " + clause.trim());
+    }
+}
\ No newline at end of file
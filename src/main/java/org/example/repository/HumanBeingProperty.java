@@ -0,0 +1,100 @@
+package org.example.repository;
+
+import org.example.entity.HumanBeing;
+import org.example.entity.Mood;
+import org.example.entity.WeaponType;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.Function;
+
+public enum HumanBeingProperty {
+    ID("id", "h.id", "h.id", false, Long::valueOf, HumanBeing::getId),
+    NAME("name", "h.name", "h.name", false, value -> value, HumanBeing::getName),
+    COORDINATES_X("coordinates.x", "h.coordinates.x", "co.x", false, Integer::valueOf,
+            h -> h.getCoordinates().getX()),
+    COORDINATES_Y("coordinates.y", "h.coordinates.y", "co.y", false, Double::valueOf,
+            h -> h.getCoordinates().getY()),
+    CREATION_DATE("creationDate", "h.creationDate", "h.creation_date", false,
+            value -> Timestamp.from(Instant.parse(value)), HumanBeing::getCreationDate),
+    REAL_HERO("realHero", "h.realHero", "h.real_hero", false, HumanBeingProperty::parseBoolean,
+            HumanBeing::getRealHero),
+    HAS_TOOTHPICK("hasToothpick", "h.hasToothpick", "h.has_toothpick", true, HumanBeingProperty::parseBoolean,
+            HumanBeing::getHasToothpick),
+    CAR_NAME("car.name", "h.car.name", "c.name", true, value -> value, h -> h.getCar().getName()),
+    MOOD("mood", "h.mood", "h.mood", false, Mood::valueOf, HumanBeing::getMood),
+    IMPACT_SPEED("impactSpeed", "h.impactSpeed", "h.impact_speed", false, Float::valueOf,
+            HumanBeing::getImpactSpeed),
+    MINUTES_OF_WAITING("minutesOfWaiting", "h.minutesOfWaiting", "h.minutes_of_waiting", false, Float::valueOf,
+            HumanBeing::getMinutesOfWaiting),
+    WEAPON_TYPE("weaponType", "h.weaponType", "h.weapon_type", true, WeaponType::valueOf,
+            HumanBeing::getWeaponType);
+
+    private final String property;
+    private final String path;
+    private final String column;
+    private final boolean nullable;
+    private final Function<String, Object> parser;
+    private final Function<HumanBeing, Object> accessor;
+
+    HumanBeingProperty(String property, String path, String column, boolean nullable, Function<String, Object> parser,
+                       Function<HumanBeing, Object> accessor) {
+        this.property = property;
+        this.path = path;
+        this.column = column;
+        this.nullable = nullable;
+        this.parser = parser;
+        this.accessor = accessor;
+    }
+
+    public static HumanBeingProperty of(String property) {
+        if (property == null || property.isEmpty()) {
+            return ID;
+        }
+        for (HumanBeingProperty key : values()) {
+            if (key.property.equals(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported property: " + property);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public boolean isOrdered() {
+        return this != REAL_HERO && this != HAS_TOOTHPICK && this != MOOD && this != WEAPON_TYPE;
+    }
+
+    public Object parse(String value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + property + ": " + value);
+        }
+    }
+
+    public Object valueOf(HumanBeing humanBeing) {
+        return accessor.apply(humanBeing);
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException(value);
+        }
+        return Boolean.valueOf(value);
+    }
+}
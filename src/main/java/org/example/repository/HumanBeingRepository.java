@@ -3,28 +3,28 @@ package org.example.repository;
 import org.example.entity.HumanBeing;
 import org.example.entity.Mood;
 import org.example.entity.WeaponType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface HumanBeingRepository extends JpaRepository<HumanBeing, Long> {
+public interface HumanBeingRepository extends JpaRepository<HumanBeing, Long>, HumanBeingRepositoryCustom {
 
+    @EntityGraph(attributePaths = {"coordinates", "car"})
     Optional<HumanBeing> findById(Long id);
 
-    Page<HumanBeing> findAll(Pageable pageable);
-
     @Query("SELECT h FROM HumanBeing h WHERE h.weaponType = :weaponType")
     List<HumanBeing> findByWeaponType(@Param("weaponType") WeaponType weaponType);
 
-    @Query("SELECT h FROM HumanBeing h WHERE h.name LIKE %:substring%")
+    @Query("SELECT h FROM HumanBeing h JOIN FETCH h.coordinates JOIN FETCH h.car WHERE h.name LIKE %:substring%")
     List<HumanBeing> findByNameContaining(@Param("substring") String substring);
 
     @Query("SELECT AVG(h.impactSpeed) FROM HumanBeing h")
@@ -58,21 +58,15 @@ public interface HumanBeingRepository extends JpaRepository<HumanBeing, Long> {
     @Query("SELECT COUNT(h) FROM HumanBeing h WHERE h.car.id = :carId")
     Long countByCarId(@Param("carId") Long carId);
 
-    @Query("SELECT h FROM HumanBeing h WHERE h.name = :value")
-    Page<HumanBeing> findByNameExact(@Param("value") String value, Pageable pageable);
-
-    @Query("SELECT h FROM HumanBeing h WHERE h.car.name = :value")
-    Page<HumanBeing> findByCarNameExact(@Param("value") String value, Pageable pageable);
-
-    @Query("SELECT h FROM HumanBeing h WHERE CAST(h.mood AS string) = :value")
-    Page<HumanBeing> findByMoodExact(@Param("value") String value, Pageable pageable);
-
-    @Query("SELECT h FROM HumanBeing h WHERE CAST(h.weaponType AS string) = :value")
-    Page<HumanBeing> findByWeaponTypeExact(@Param("value") String value, Pageable pageable);
-
     @Query("SELECT h FROM HumanBeing h WHERE h.name = :name AND h.coordinates.x = :x AND h.coordinates.y = :y")
     List<HumanBeing> findByNameAndCoordinates(@Param("name") String name, @Param("x") Integer x, @Param("y") Double y);
 
     @Query("SELECT h FROM HumanBeing h WHERE h.realHero = true AND h.impactSpeed = :impactSpeed AND h.minutesOfWaiting = :minutesOfWaiting")
     List<HumanBeing> findByHeroSpeedAndWaiting(@Param("impactSpeed") Float impactSpeed, @Param("minutesOfWaiting") Float minutesOfWaiting);
+
+    @Query("SELECT h.name, h.coordinates.x, h.coordinates.y FROM HumanBeing h WHERE h.name IN :names AND h.coordinates.x IN :xs")
+    List<Object[]> findNameCoordinateKeys(@Param("names") Collection<String> names, @Param("xs") Collection<Integer> xs);
+
+    @Query("SELECT h.impactSpeed, h.minutesOfWaiting FROM HumanBeing h WHERE h.realHero = true AND h.impactSpeed IN :speeds AND h.minutesOfWaiting IN :waits")
+    List<Object[]> findHeroKeys(@Param("speeds") Collection<Float> speeds, @Param("waits") Collection<Float> waits);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package org.example.repository;
+
+import org.example.entity.HumanBeing;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface HumanBeingRepositoryCustom {
+
+    Slice<HumanBeing> findMatching(HumanBeingFilter filter, Pageable pageable);
+
+    long countMatching(HumanBeingFilter filter);
+
+    Slice<HumanBeing> findSliceAfter(HumanBeingFilter filter, HumanBeingProperty sortKey, boolean descending,
+                                     Object lastValue, Long lastId, int size);
+}
\ No newline at end of file
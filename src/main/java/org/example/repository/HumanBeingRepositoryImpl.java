@@ -0,0 +1,181 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.example.entity.HumanBeing;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class HumanBeingRepositoryImpl implements HumanBeingRepositoryCustom {
+
+    private static final String SELECT_WITH_ASSOCIATIONS =
+            "SELECT h FROM HumanBeing h JOIN FETCH h.coordinates JOIN FETCH h.car";
+
+    private static final int MAX_CACHED_SHAPES = 512;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<String, String> queryShapes = new ConcurrentHashMap<>();
+
+    @Override
+    public Slice<HumanBeing> findMatching(HumanBeingFilter filter, Pageable pageable) {
+        String jpql = queryShape("find\n" + filter.shape() + "\n" + pageable.getSort(), () -> {
+            List<String> conditions = new ArrayList<>();
+            addFilterConditions(filter, conditions);
+            StringBuilder query = select(conditions);
+            appendOrder(query, pageable.getSort());
+            return query.toString();
+        });
+
+        TypedQuery<HumanBeing> query = entityManager.createQuery(jpql, HumanBeing.class);
+        bindFilter(filter, query);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+
+        List<HumanBeing> content = query.getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countMatching(HumanBeingFilter filter) {
+        String jpql = queryShape("count\n" + filter.shape(), () -> {
+            List<String> conditions = new ArrayList<>();
+            addFilterConditions(filter, conditions);
+            StringBuilder query = new StringBuilder("SELECT COUNT(h) FROM HumanBeing h");
+            if (!conditions.isEmpty()) {
+                query.append(" WHERE ").append(String.join(" AND ", conditions));
+            }
+            return query.toString();
+        });
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+        bindFilter(filter, query);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Slice<HumanBeing> findSliceAfter(HumanBeingFilter filter, HumanBeingProperty sortKey, boolean descending,
+                                            Object lastValue, Long lastId, int size) {
+        String key = "after\n" + filter.shape() + "\n" + sortKey + "\n" + descending + "\n" + (lastId != null) +
+                "\n" + (lastValue != null);
+        String jpql = queryShape(key, () -> {
+            List<String> conditions = new ArrayList<>();
+            addFilterConditions(filter, conditions);
+            if (lastId != null) {
+                conditions.add(seekCondition(sortKey, descending, lastValue));
+            }
+
+            String direction = descending ? "DESC" : "ASC";
+            StringBuilder query = select(conditions);
+            query.append(" ORDER BY ");
+            if (sortKey != HumanBeingProperty.ID) {
+                query.append(sortKey.getPath()).append(' ').append(direction)
+                        .append(descending ? " NULLS FIRST, " : " NULLS LAST, ");
+            }
+            query.append("h.id ").append(direction);
+            return query.toString();
+        });
+
+        TypedQuery<HumanBeing> query = entityManager.createQuery(jpql, HumanBeing.class);
+        bindFilter(filter, query);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+            if (sortKey != HumanBeingProperty.ID && lastValue != null) {
+                query.setParameter("lastValue", lastValue);
+            }
+        }
+        query.setMaxResults(size + 1);
+
+        List<HumanBeing> content = query.getResultList();
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private String queryShape(String key, Supplier<String> compiler) {
+        String jpql = queryShapes.get(key);
+        if (jpql == null) {
+            if (queryShapes.size() >= MAX_CACHED_SHAPES) {
+                queryShapes.clear();
+            }
+            jpql = compiler.get();
+            queryShapes.put(key, jpql);
+        }
+        return jpql;
+    }
+
+    private StringBuilder select(List<String> conditions) {
+        StringBuilder query = new StringBuilder(SELECT_WITH_ASSOCIATIONS);
+        if (!conditions.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return query;
+    }
+
+    private void appendOrder(StringBuilder query, Sort sort) {
+        query.append(" ORDER BY ");
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            HumanBeingProperty property = HumanBeingProperty.of(order.getProperty());
+            query.append(property.getPath()).append(order.isDescending() ? " DESC" : " ASC").append(", ");
+            byId = property == HumanBeingProperty.ID;
+        }
+        if (byId) {
+            query.setLength(query.length() - 2);
+        } else {
+            query.append("h.id ASC");
+        }
+    }
+
+    private void addFilterConditions(HumanBeingFilter filter, List<String> conditions) {
+        List<HumanBeingFilter.Condition> filterConditions = filter.getConditions();
+        for (int i = 0; i < filterConditions.size(); i++) {
+            HumanBeingFilter.Condition condition = filterConditions.get(i);
+            conditions.add(condition.predicate(condition.property().getPath(), ":p" + i));
+        }
+    }
+
+    private void bindFilter(HumanBeingFilter filter, TypedQuery<?> query) {
+        List<HumanBeingFilter.Condition> conditions = filter.getConditions();
+        for (int i = 0; i < conditions.size(); i++) {
+            if (conditions.get(i).value() != null) {
+                query.setParameter("p" + i, conditions.get(i).value());
+            }
+        }
+    }
+
+    private String seekCondition(HumanBeingProperty sortKey, boolean descending, Object lastValue) {
+        String after = descending ? "<" : ">";
+        if (sortKey == HumanBeingProperty.ID) {
+            return "h.id " + after + " :lastId";
+        }
+
+        String path = sortKey.getPath();
+        if (lastValue == null) {
+            return descending
+                    ? "((" + path + " IS NULL AND h.id < :lastId) OR " + path + " IS NOT NULL)"
+                    : "(" + path + " IS NULL AND h.id > :lastId)";
+        }
+
+        String seek = "(" + path + " " + after + "= :lastValue AND (" + path + " " + after + " :lastValue OR h.id " +
+                after + " :lastId))";
+        return sortKey.isNullable() && !descending ? "(" + seek + " OR " + path + " IS NULL)" : seek;
+    }
+}
\ No newline at end of file
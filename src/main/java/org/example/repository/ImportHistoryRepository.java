@@ -4,10 +4,13 @@ import org.example.entity.ImportHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,5 +31,43 @@ public interface ImportHistoryRepository extends JpaRepository<ImportHistory, Lo
     @Query("SELECT i FROM ImportHistory i ORDER BY i.id DESC")
     List<ImportHistory> findAllOrderedById();
 
+    @Query("SELECT i FROM ImportHistory i WHERE i.contentHash = :hash AND i.status = :status AND i.id <> :id " +
+            "AND i.mutationGeneration = :generation ORDER BY i.id")
+    List<ImportHistory> findByContentHash(@Param("hash") String hash,
+                                          @Param("status") ImportHistory.ImportStatus status,
+                                          @Param("id") Long excludedId,
+                                          @Param("generation") Long generation,
+                                          Pageable pageable);
+
+    @Query(value = "SELECT last_value FROM human_beings_mutation_seq", nativeQuery = true)
+    Long currentMutationGeneration();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportHistory i SET i.mutationGeneration = :generation WHERE i.id = :id")
+    void updateMutationGeneration(@Param("id") Long id, @Param("generation") Long generation);
+
+    @Modifying
+    @Query("UPDATE ImportHistory i SET i.checkpointRecords = :records, i.successfulRecords = :records " +
+            "WHERE i.id = :id")
+    void updateCheckpoint(@Param("id") Long id, @Param("records") Integer records);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportHistory i SET i.status = :to, i.errorMessage = null, i.endTime = null " +
+            "WHERE i.id = :id AND i.status = :from")
+    int updateStatusIf(@Param("id") Long id,
+                       @Param("from") ImportHistory.ImportStatus from,
+                       @Param("to") ImportHistory.ImportStatus to);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportHistory i SET i.status = :to, i.errorMessage = :message, i.endTime = :endTime " +
+            "WHERE i.status = :from")
+    int failAllWithStatus(@Param("from") ImportHistory.ImportStatus from,
+                          @Param("to") ImportHistory.ImportStatus to,
+                          @Param("message") String message,
+                          @Param("endTime") Date endTime);
+
     void deleteAll();
 }
\ No newline at end of file
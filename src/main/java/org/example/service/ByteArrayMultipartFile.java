@@ -1,61 +0,0 @@
-package org.example.service;
-
-import org.springframework.web.multipart.MultipartFile;
-
-import java.io.*;
-
-public class ByteArrayMultipartFile implements MultipartFile {
-    private final byte[] content;
-    private final String name;
-    private final String originalFilename;
-    private final String contentType;
-
-    public ByteArrayMultipartFile(byte[] content, String name, String originalFilename, String contentType) {
-        this.content = content;
-        this.name = name;
-        this.originalFilename = originalFilename;
-        this.contentType = contentType;
-    }
-
-    @Override
-    public String getName() {
-        return name;
-    }
-
-    @Override
-    public String getOriginalFilename() {
-        return originalFilename;
-    }
-
-    @Override
-    public String getContentType() {
-        return contentType;
-    }
-
-    @Override
-    public boolean isEmpty() {
-        return content == null || content.length == 0;
-    }
-
-    @Override
-    public long getSize() {
-        return content != null ? content.length : 0;
-    }
-
-    @Override
-    public byte[] getBytes() throws IOException {
-        return content != null ? content : new byte[0];
-    }
-
-    @Override
-    public InputStream getInputStream() throws IOException {
-        return new ByteArrayInputStream(content != null ? content : new byte[0]);
-    }
-
-    @Override
-    public void transferTo(File dest) throws IOException, IllegalStateException {
-        try (FileOutputStream fos = new FileOutputStream(dest)) {
-            fos.write(content != null ? content : new byte[0]);
-        }
-    }
-}
\ No newline at end of file
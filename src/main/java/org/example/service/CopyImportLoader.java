@@ -0,0 +1,305 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Service
+public class CopyImportLoader {
+
+    private static final String COPY_SQL = """
+            COPY import_staging (import_id, line_number, name, x, y, real_hero, has_toothpick,
+                                 car_name, mood, impact_speed, minutes_of_waiting, weapon_type)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String DUPLICATE_NAME_IN_FILE = """
+            SELECT line_number, name, x, y
+            FROM (SELECT line_number, name, x, y,
+                         row_number() OVER (PARTITION BY name, x, y ORDER BY line_number) AS rn
+                  FROM import_staging
+                  WHERE import_id = ?) t
+            WHERE rn > 1
+            ORDER BY line_number
+            LIMIT 1
+            """;
+
+    private static final String DUPLICATE_NAME_IN_TABLE = """
+            SELECT s.line_number, s.name, s.x, s.y
+            FROM import_staging s
+            JOIN human_beings h ON h.name = s.name
+            JOIN coordinates c ON c.id = h.coordinates_id AND c.x = s.x AND c.y = s.y
+            WHERE s.import_id = ?
+            ORDER BY s.line_number
+            LIMIT 1
+            """;
+
+    private static final String DUPLICATE_HERO_IN_FILE = """
+            SELECT line_number, impact_speed, minutes_of_waiting
+            FROM (SELECT line_number, impact_speed, minutes_of_waiting,
+                         row_number() OVER (PARTITION BY impact_speed, minutes_of_waiting ORDER BY line_number) AS rn
+                  FROM import_staging
+                  WHERE import_id = ? AND real_hero) t
+            WHERE rn > 1
+            ORDER BY line_number
+            LIMIT 1
+            """;
+
+    private static final String DUPLICATE_HERO_IN_TABLE = """
+            SELECT s.line_number, s.impact_speed, s.minutes_of_waiting
+            FROM import_staging s
+            JOIN human_beings h ON h.real_hero
+                AND h.impact_speed = s.impact_speed
+                AND h.minutes_of_waiting = s.minutes_of_waiting
+            WHERE s.import_id = ? AND s.real_hero
+            ORDER BY s.line_number
+            LIMIT 1
+            """;
+
+    private static final String INSERT_MISSING_COORDINATES = """
+            INSERT INTO coordinates (id, x, y)
+            SELECT nextval('coordinates_seq'), n.x, n.y
+            FROM (SELECT DISTINCT x, y FROM import_staging WHERE import_id = ?) n
+            WHERE NOT EXISTS (SELECT 1 FROM coordinates c WHERE c.x = n.x AND c.y = n.y)
+            """;
+
+    private static final String INSERT_MISSING_CARS = """
+            INSERT INTO cars (id, name)
+            SELECT nextval('cars_seq'), n.car_name
+            FROM (SELECT DISTINCT car_name FROM import_staging WHERE import_id = ?) n
+            WHERE NOT EXISTS (SELECT 1 FROM cars c
+                              WHERE c.name = n.car_name OR (c.name IS NULL AND n.car_name IS NULL))
+            """;
+
+    private static final String INSERT_FROM_STAGING = """
+            INSERT INTO human_beings (id, name, coordinates_id, creation_date, real_hero, has_toothpick,
+                                      car_id, mood, impact_speed, minutes_of_waiting, weapon_type)
+            SELECT nextval('human_beings_seq'), s.name,
+                   (SELECT min(c.id) FROM coordinates c WHERE c.x = s.x AND c.y = s.y),
+                   now(), s.real_hero, s.has_toothpick,
+                   (SELECT min(c.id) FROM cars c
+                    WHERE c.name = s.car_name OR (c.name IS NULL AND s.car_name IS NULL)),
+                   s.mood, s.impact_speed, s.minutes_of_waiting, s.weapon_type
+            FROM import_staging s
+            WHERE s.import_id = ?
+            """;
+
+    private static final String DELETE_STAGED_ROWS = "DELETE FROM import_staging WHERE import_id = ?";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ImportMetrics metrics;
+
+    @Autowired
+    private HumanBeingCounter counter;
+
+    private Session open(Long importId) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            return new Session(connection, copyIn, importId);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            connection.close();
+            throw e;
+        }
+    }
+
+    public void stage(Long importId, ImportChunk chunk) throws SQLException {
+        try (Session session = open(importId)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                session.add(chunk.get(i), chunk.lineNumber(i));
+            }
+            session.commitStaged();
+        }
+    }
+
+    public int finishStaged(Long importId, ImportInternCache internCache) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                return load(connection, importId, internCache);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    public void discardStaged(Long importId) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            executeForImport(connection, DELETE_STAGED_ROWS, importId);
+        }
+    }
+
+    private int load(Connection connection, Long importId, ImportInternCache internCache) throws SQLException {
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE import_staging");
+        }
+
+        checkDuplicateName(connection, DUPLICATE_NAME_IN_FILE, importId, "is duplicated in the file");
+        checkDuplicateName(connection, DUPLICATE_NAME_IN_TABLE, importId, "already exists");
+        checkDuplicateHero(connection, DUPLICATE_HERO_IN_FILE, importId, "is duplicated in the file");
+        checkDuplicateHero(connection, DUPLICATE_HERO_IN_TABLE, importId, "already exists");
+        metrics.recordStage(ImportMetrics.Stage.VALIDATE, start);
+
+        start = System.nanoTime();
+        int newCoordinates = executeForImport(connection, INSERT_MISSING_COORDINATES, importId);
+        int newCars = executeForImport(connection, INSERT_MISSING_CARS, importId);
+        int inserted = executeForImport(connection, INSERT_FROM_STAGING, importId);
+        executeForImport(connection, DELETE_STAGED_ROWS, importId);
+
+        connection.commit();
+        counter.invalidate();
+        metrics.recordWritten(start, inserted);
+        internCache.record(inserted - newCars, newCars, inserted - newCoordinates, newCoordinates);
+        return inserted;
+    }
+
+    private int executeForImport(Connection connection, String sql, Long importId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, importId);
+            return statement.executeUpdate();
+        }
+    }
+
+    private void checkDuplicateName(Connection connection, String sql, Long importId, String problem)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, importId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    throw new IllegalArgumentException("Error importing record at line " + rs.getInt(1) +
+                            ": HumanBeing with name '" + rs.getString(2) + "' and coordinates (" +
+                            rs.getInt(3) + ", " + rs.getDouble(4) + ") " + problem);
+                }
+            }
+        }
+    }
+
+    private void checkDuplicateHero(Connection connection, String sql, Long importId, String problem)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, importId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    throw new IllegalArgumentException("Error importing record at line " + rs.getInt(1) +
+                            ": Hero with impactSpeed " + rs.getFloat(2) + " and minutesOfWaiting " +
+                            rs.getFloat(3) + " " + problem);
+                }
+            }
+        }
+    }
+
+    private static class Session implements Closeable {
+
+        private final Connection connection;
+        private final CopyIn copyIn;
+        private final Long importId;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+        private int staged;
+        private boolean finished;
+
+        private Session(Connection connection, CopyIn copyIn, Long importId) {
+            this.connection = connection;
+            this.copyIn = copyIn;
+            this.importId = importId;
+        }
+
+        public void add(HumanBeingDTO dto, int lineNumber) throws SQLException {
+            buffer.append(importId).append(',').append(lineNumber).append(',');
+            appendText(dto.getName());
+            buffer.append(',').append(dto.getCoordinates().getX());
+            buffer.append(',').append(dto.getCoordinates().getY());
+            buffer.append(',').append(dto.getRealHero());
+            buffer.append(',');
+            if (dto.getHasToothpick() != null) {
+                buffer.append(dto.getHasToothpick());
+            }
+            buffer.append(',');
+            appendText(dto.getCar().getName());
+            buffer.append(',').append(dto.getMood().name());
+            buffer.append(',').append(dto.getImpactSpeed());
+            buffer.append(',').append(dto.getMinutesOfWaiting());
+            buffer.append(',');
+            if (dto.getWeaponType() != null) {
+                buffer.append(dto.getWeaponType().name());
+            }
+            buffer.append('\n');
+
+            staged++;
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flushBuffer();
+            }
+        }
+
+        private void commitStaged() throws SQLException {
+            flushBuffer();
+            copyIn.endCopy();
+            connection.commit();
+            finished = true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!finished) {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                    connection.close();
+                } catch (SQLException e) {
+                }
+            }
+        }
+
+        private void appendText(String value) {
+            if (value == null) {
+                return;
+            }
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+
+        private void flushBuffer() throws SQLException {
+            if (buffer.length() == 0) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CsvPartitioner {
+
+    private static final int MIN_PARTITION_BYTES = 256 * 1024;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private CsvPartitioner() {
+    }
+
+    public record Partition(long start, long end, int linesBefore) {
+    }
+
+    public record Layout(String header, List<Partition> partitions) {
+    }
+
+    public static Layout split(Path file, int maxPartitions) throws IOException {
+        List<Partition> partitions = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long position = 0;
+            int lines = 0;
+            boolean inQuotes = false;
+            long headerEnd = -1;
+            long partitionStart = -1;
+            int partitionLines = 0;
+            long step = Long.MAX_VALUE;
+            int count = 1;
+
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    position++;
+                    if (b == '"') {
+                        inQuotes = !inQuotes;
+                    }
+                    if (b != '\n') {
+                        continue;
+                    }
+                    lines++;
+                    if (inQuotes) {
+                        continue;
+                    }
+
+                    if (headerEnd < 0) {
+                        headerEnd = position;
+                        count = (int) Math.max(1, Math.min(maxPartitions, (size - headerEnd) / MIN_PARTITION_BYTES));
+                        step = (size - headerEnd) / count;
+                        partitionStart = position;
+                        partitionLines = lines;
+                    } else if (position - partitionStart >= step && partitions.size() < count - 1) {
+                        partitions.add(new Partition(partitionStart, position, partitionLines));
+                        partitionStart = position;
+                        partitionLines = lines;
+                    }
+                }
+                buffer.clear();
+            }
+
+            if (headerEnd < 0) {
+                return new Layout(null, List.of());
+            }
+            if (partitionStart < size) {
+                partitions.add(new Partition(partitionStart, size, partitionLines));
+            }
+
+            ByteBuffer header = ByteBuffer.allocate((int) headerEnd);
+            channel.read(header, 0);
+            return new Layout(new String(header.array(), StandardCharsets.UTF_8).stripTrailing(), partitions);
+        }
+    }
+}
\ No newline at end of file
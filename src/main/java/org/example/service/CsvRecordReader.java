@@ -0,0 +1,190 @@
+package org.example.service;
+
+import org.example.dto.CarDTO;
+import org.example.dto.CoordinatesDTO;
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.Mood;
+import org.example.entity.WeaponType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CsvRecordReader implements ImportRecordReader {
+
+    private static final Mood[] MOODS = Mood.values();
+    private static final WeaponType[] WEAPON_TYPES = WeaponType.values();
+
+    private final Reader reader;
+    private final CsvTokenizer tokenizer;
+    private ColumnPlan plan;
+    private int lineNumber;
+
+    public CsvRecordReader(InputStream inputStream) throws IOException {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.tokenizer = new CsvTokenizer(reader, 0);
+
+        if (tokenizer.next()) {
+            lineNumber = tokenizer.getRecordLine();
+            plan = ColumnPlan.compile(tokenizer);
+        }
+    }
+
+    public CsvRecordReader(InputStream inputStream, String headerLine, int linesBefore) throws IOException {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.tokenizer = new CsvTokenizer(reader, linesBefore);
+        this.lineNumber = linesBefore;
+
+        CsvTokenizer header = new CsvTokenizer(new StringReader(headerLine), 0);
+        if (header.next()) {
+            plan = ColumnPlan.compile(header);
+        }
+    }
+
+    @Override
+    public HumanBeingDTO next() throws IOException {
+        if (plan == null) {
+            return null;
+        }
+
+        while (nextRecord()) {
+            try {
+                return parseCSVRow();
+            } catch (Exception e) {
+                throw new ImportRecordException("Error parsing CSV line " + lineNumber + ": " + e.getMessage(),
+                        lineNumber, e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int skip(int records) throws IOException {
+        if (plan == null) {
+            return 0;
+        }
+
+        int skipped = 0;
+        while (skipped < records && nextRecord()) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean nextRecord() throws IOException {
+        try {
+            while (tokenizer.next()) {
+                lineNumber = tokenizer.getRecordLine();
+                if (!tokenizer.isBlankRecord()) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Error parsing CSV line " + tokenizer.getRecordLine() + ": "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private HumanBeingDTO parseCSVRow() {
+        HumanBeingDTO dto = new HumanBeingDTO();
+
+        dto.setName(tokenizer.getString(plan.name()));
+
+        CoordinatesDTO coords = new CoordinatesDTO();
+        coords.setX(tokenizer.getInt(required(plan.x(), "coordinates.x")));
+        coords.setY(tokenizer.getDouble(required(plan.y(), "coordinates.y")));
+        dto.setCoordinates(coords);
+
+        dto.setRealHero(tokenizer.getBoolean(plan.realHero()));
+
+        if (!tokenizer.isBlankOrNull(plan.hasToothpick())) {
+            dto.setHasToothpick(tokenizer.getBoolean(plan.hasToothpick()));
+        }
+
+        CarDTO car = new CarDTO();
+        car.setName(tokenizer.getString(plan.carName()));
+        dto.setCar(car);
+
+        if (tokenizer.isBlank(plan.mood())) {
+            throw new IllegalArgumentException("Mood cannot be null");
+        }
+        Mood mood = tokenizer.getEnum(plan.mood(), MOODS);
+        if (mood == null) {
+            throw new IllegalArgumentException("Invalid mood value: " + tokenizer.getString(plan.mood())
+                    + ". Valid values: SADNESS, CALM, RAGE");
+        }
+        dto.setMood(mood);
+
+        dto.setImpactSpeed(tokenizer.getFloat(required(plan.impactSpeed(), "impactSpeed")));
+
+        dto.setMinutesOfWaiting(tokenizer.getFloat(required(plan.minutesOfWaiting(), "minutesOfWaiting")));
+
+        if (!tokenizer.isBlankOrNull(plan.weaponType())) {
+            WeaponType weaponType = tokenizer.getEnum(plan.weaponType(), WEAPON_TYPES);
+            if (weaponType == null) {
+                throw new IllegalArgumentException("Invalid weaponType value: " + tokenizer.getString(plan.weaponType())
+                        + ". Valid values: HAMMER, RIFLE, MACHINE_GUN, BAT");
+            }
+            dto.setWeaponType(weaponType);
+        }
+
+        return dto;
+    }
+
+    private int required(int field, String column) {
+        if (tokenizer.isBlank(field)) {
+            throw new IllegalArgumentException(column + " cannot be empty");
+        }
+        return field;
+    }
+
+    private record ColumnPlan(int name, int x, int y, int realHero, int hasToothpick, int carName, int mood,
+                              int impactSpeed, int minutesOfWaiting, int weaponType) {
+
+        static ColumnPlan compile(CsvTokenizer header) {
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.getFieldCount(); i++) {
+                String column = header.getString(i);
+                if (column != null) {
+                    columns.put(column, i);
+                }
+            }
+
+            return new ColumnPlan(
+                    index(columns, "name", null),
+                    index(columns, "coordinates.x", "x"),
+                    index(columns, "coordinates.y", "y"),
+                    index(columns, "realHero", null),
+                    index(columns, "hasToothpick", null),
+                    index(columns, "car.name", "carName"),
+                    index(columns, "mood", null),
+                    index(columns, "impactSpeed", null),
+                    index(columns, "minutesOfWaiting", null),
+                    index(columns, "weaponType", null));
+        }
+
+        private static int index(Map<String, Integer> columns, String key, String altKey) {
+            Integer index = columns.get(key);
+            if (index == null && altKey != null) {
+                index = columns.get(altKey);
+            }
+            return index != null ? index : -1;
+        }
+    }
+}
\ No newline at end of file
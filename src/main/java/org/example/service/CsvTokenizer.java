@@ -0,0 +1,304 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+public class CsvTokenizer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+    private static final int MAX_FAST_FLOAT_DIGITS = 7;
+    private static final double[] DOUBLE_POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private char[] values = new char[256];
+    private int valuesLength;
+    private int[] starts = new int[16];
+    private int[] lengths = new int[16];
+    private int fieldCount;
+    private int fieldStart;
+    private int quotedUntil;
+
+    private int line;
+    private int recordLine;
+
+    private long decimalMantissa;
+    private int decimalScale;
+    private boolean decimalNegative;
+
+    public CsvTokenizer(Reader reader, int linesBefore) {
+        this.reader = reader;
+        this.line = linesBefore;
+    }
+
+    public boolean next() throws IOException {
+        fieldCount = 0;
+        valuesLength = 0;
+
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        recordLine = line + 1;
+        startField();
+
+        boolean inQuotes = false;
+        while (true) {
+            if (c == -1) {
+                if (inQuotes) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                endField();
+                return true;
+            }
+
+            char ch = (char) c;
+            if (inQuotes) {
+                if (ch == '"') {
+                    if (peek() == '"') {
+                        read();
+                        append('"');
+                    } else {
+                        inQuotes = false;
+                        quotedUntil = valuesLength;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    append(ch);
+                }
+            } else if (ch == '"') {
+                inQuotes = true;
+            } else if (ch == ',') {
+                endField();
+                startField();
+            } else if (ch == '\n') {
+                line++;
+                endField();
+                return true;
+            } else if (ch != '\r' || peek() != '\n') {
+                if (valuesLength > fieldStart || !Character.isWhitespace(ch)) {
+                    append(ch);
+                }
+            }
+            c = read();
+        }
+    }
+
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public boolean isBlankRecord() {
+        return fieldCount == 1 && lengths[0] == 0;
+    }
+
+    public boolean isBlank(int field) {
+        return field < 0 || field >= fieldCount || lengths[field] == 0;
+    }
+
+    public boolean isBlankOrNull(int field) {
+        return isBlank(field) || equalsIgnoreCase(field, "null");
+    }
+
+    public String getString(int field) {
+        return isBlank(field) ? null : new String(values, starts[field], lengths[field]);
+    }
+
+    public boolean getBoolean(int field) {
+        return !isBlank(field) && equalsIgnoreCase(field, "true");
+    }
+
+    public <E extends Enum<E>> E getEnum(int field, E[] constants) {
+        if (isBlank(field)) {
+            return null;
+        }
+        for (E constant : constants) {
+            String name = constant.name();
+            if (name.length() == lengths[field] && regionMatches(field, name, false)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    public int getInt(int field) {
+        requireValue(field);
+        int start = starts[field];
+        int end = start + lengths[field];
+        boolean negative = values[start] == '-';
+        int i = negative || values[start] == '+' ? start + 1 : start;
+        if (i == end) {
+            throw numberFormat(field);
+        }
+        while (i < end - 1 && values[i] == '0') {
+            i++;
+        }
+        if (end - i > 10) {
+            throw numberFormat(field);
+        }
+
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = values[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw numberFormat(field);
+            }
+            result = result * 10 + digit;
+        }
+        result = negative ? -result : result;
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw numberFormat(field);
+        }
+        return (int) result;
+    }
+
+    public double getDouble(int field) {
+        requireValue(field);
+        if (!parseDecimal(field, MAX_FAST_DOUBLE_DIGITS, DOUBLE_POW10.length - 1)) {
+            try {
+                return Double.parseDouble(getString(field));
+            } catch (NumberFormatException e) {
+                throw numberFormat(field);
+            }
+        }
+        double value = decimalMantissa / DOUBLE_POW10[decimalScale];
+        return decimalNegative ? -value : value;
+    }
+
+    public float getFloat(int field) {
+        requireValue(field);
+        if (!parseDecimal(field, MAX_FAST_FLOAT_DIGITS, FLOAT_POW10.length - 1)) {
+            try {
+                return Float.parseFloat(getString(field));
+            } catch (NumberFormatException e) {
+                throw numberFormat(field);
+            }
+        }
+        float value = (float) decimalMantissa / FLOAT_POW10[decimalScale];
+        return decimalNegative ? -value : value;
+    }
+
+    private boolean parseDecimal(int field, int maxDigits, int maxScale) {
+        int start = starts[field];
+        int end = start + lengths[field];
+        boolean negative = values[start] == '-';
+        int i = negative || values[start] == '+' ? start + 1 : start;
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char ch = values[i];
+            if (ch == '.' && scale < 0) {
+                scale = 0;
+            } else if (ch >= '0' && ch <= '9') {
+                if (++digits > maxDigits) {
+                    return false;
+                }
+                mantissa = mantissa * 10 + (ch - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (digits == 0 || scale > maxScale) {
+            return false;
+        }
+        decimalMantissa = mantissa;
+        decimalScale = Math.max(scale, 0);
+        decimalNegative = negative;
+        return true;
+    }
+
+    private void requireValue(int field) {
+        if (isBlank(field)) {
+            throw new NumberFormatException("Missing numeric value");
+        }
+    }
+
+    private NumberFormatException numberFormat(int field) {
+        return new NumberFormatException("For input string: \"" + getString(field) + "\"");
+    }
+
+    private boolean equalsIgnoreCase(int field, String text) {
+        return lengths[field] == text.length() && regionMatches(field, text, true);
+    }
+
+    private boolean regionMatches(int field, String text, boolean ignoreCase) {
+        int start = starts[field];
+        for (int i = 0; i < text.length(); i++) {
+            char a = values[start + i];
+            char b = text.charAt(i);
+            if (a != b && (!ignoreCase || Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void startField() {
+        fieldStart = valuesLength;
+        quotedUntil = valuesLength;
+    }
+
+    private void endField() {
+        int end = valuesLength;
+        while (end > quotedUntil && Character.isWhitespace(values[end - 1])) {
+            end--;
+        }
+        valuesLength = end;
+
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            lengths = Arrays.copyOf(lengths, fieldCount * 2);
+        }
+        starts[fieldCount] = fieldStart;
+        lengths[fieldCount] = end - fieldStart;
+        fieldCount++;
+    }
+
+    private void append(char ch) {
+        if (valuesLength == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[valuesLength++] = ch;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int n = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package org.example.service;
+
+import org.example.repository.HumanBeingFilter;
+import org.example.repository.HumanBeingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+public class HumanBeingCounter {
+
+    public enum Strategy {
+        EXACT, CACHED, ESTIMATED;
+
+        public static Strategy of(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown count strategy: " + value);
+            }
+        }
+    }
+
+    public record Count(long value, Strategy strategy) {
+    }
+
+    private record CachedCount(long value, long generation, long expiresAt) {
+    }
+
+    private static final String TABLE_ESTIMATE_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = 'human_beings'::regclass";
+
+    private static final String FILTER_ESTIMATE_SQL = """
+            EXPLAIN SELECT 1 FROM human_beings h
+            JOIN coordinates co ON co.id = h.coordinates_id
+            JOIN cars c ON c.id = h.car_id
+            WHERE\s""";
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @Autowired
+    private HumanBeingRepository humanBeingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${human-beings.count.strategy:cached}")
+    private String defaultStrategy;
+
+    @Value("${human-beings.count.cache-ttl-ms:60000}")
+    private long cacheTtlMs;
+
+    @Value("${human-beings.count.cache-max-entries:1000}")
+    private int cacheMaxEntries;
+
+    @Value("${human-beings.count.estimate-exact-below:100000}")
+    private long estimateExactBelow;
+
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public Strategy strategy(String requested) {
+        return Strategy.of(requested != null && !requested.isBlank() ? requested : defaultStrategy);
+    }
+
+    public Count count(HumanBeingFilter filter, Strategy strategy) {
+        return switch (strategy) {
+            case EXACT -> new Count(humanBeingRepository.countMatching(filter), Strategy.EXACT);
+            case CACHED -> cached(filter);
+            case ESTIMATED -> estimated(filter);
+        };
+    }
+
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate();
+            }
+        });
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private Count cached(HumanBeingFilter filter) {
+        String key = filter.toString();
+        long currentGeneration = generation.get();
+        long now = System.currentTimeMillis();
+
+        CachedCount entry = cache.get(key);
+        if (entry != null && entry.generation() == currentGeneration && entry.expiresAt() > now) {
+            return new Count(entry.value(), Strategy.CACHED);
+        }
+
+        long value = humanBeingRepository.countMatching(filter);
+        if (cache.size() >= cacheMaxEntries) {
+            cache.clear();
+        }
+        cache.put(key, new CachedCount(value, currentGeneration, now + cacheTtlMs));
+        return new Count(value, Strategy.EXACT);
+    }
+
+    private Count estimated(HumanBeingFilter filter) {
+        long estimate = filter.isEmpty() ? tableEstimate() : planEstimate(filter);
+        if (estimate < estimateExactBelow) {
+            return new Count(humanBeingRepository.countMatching(filter), Strategy.EXACT);
+        }
+        return new Count(estimate, Strategy.ESTIMATED);
+    }
+
+    private long tableEstimate() {
+        Long estimate = jdbcTemplate.queryForObject(TABLE_ESTIMATE_SQL, Long.class);
+        return estimate != null ? estimate : -1;
+    }
+
+    private long planEstimate(HumanBeingFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (HumanBeingFilter.Condition condition : filter.getConditions()) {
+            conditions.add(condition.predicate(condition.property().getColumn(), "?"));
+            if (condition.value() != null) {
+                values.add(condition.value() instanceof Enum<?> constant ? constant.name() : condition.value());
+            }
+        }
+
+        String sql = FILTER_ESTIMATE_SQL + String.join(" AND ", conditions);
+        List<String> plan = jdbcTemplate.queryForList(sql, String.class, values.toArray());
+        if (plan.isEmpty()) {
+            return -1;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(plan.get(0));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
\ No newline at end of file
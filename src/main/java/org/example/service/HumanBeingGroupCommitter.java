@@ -0,0 +1,207 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.dto.HumanBeingDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class HumanBeingGroupCommitter {
+
+    @Autowired
+    private HumanBeingService humanBeingService;
+
+    @Autowired
+    private ImportChunkValidator chunkValidator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${human-beings.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${human-beings.group-commit.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${human-beings.group-commit.max-wait-ms:5}")
+    private long maxWaitMs;
+
+    @Value("${human-beings.group-commit.commit-timeout-ms:5000}")
+    private long commitTimeoutMs;
+
+    private final BlockingQueue<PendingCreate> pending = new LinkedBlockingQueue<>();
+    private DistributionSummary groupSizes;
+    private Counter fallbacks;
+    private Counter timeouts;
+    private Thread committer;
+
+    @PostConstruct
+    void start() {
+        groupSizes = DistributionSummary.builder("human.beings.group.commit.size")
+                .description("Creates committed together in one transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        fallbacks = Counter.builder("human.beings.group.commit.fallbacks")
+                .description("Groups that failed to commit and were retried one create at a time")
+                .register(meterRegistry);
+        timeouts = Counter.builder("human.beings.group.commit.timeouts")
+                .description("Creates that gave up waiting for a group and were committed on their own")
+                .register(meterRegistry);
+
+        if (enabled) {
+            committer = new Thread(this::run, "human-being-group-commit");
+            committer.setDaemon(true);
+            committer.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (committer != null) {
+            committer.interrupt();
+        }
+    }
+
+    public HumanBeingDTO create(HumanBeingDTO dto) {
+        if (!enabled || dto.getId() != null || (dto.getCar() != null && dto.getCar().getId() != null)
+                || (dto.getCoordinates() != null && dto.getCoordinates().getId() != null)) {
+            return humanBeingService.createHumanBeing(dto);
+        }
+
+        PendingCreate request = new PendingCreate(dto, new CompletableFuture<>(), new AtomicBoolean());
+        pending.add(request);
+        HumanBeingDTO created;
+        try {
+            created = await(request, maxWaitMs + commitTimeoutMs);
+        } catch (TimeoutException e) {
+            if (request.claimed().compareAndSet(false, true)) {
+                pending.remove(request);
+                timeouts.increment();
+                return humanBeingService.createHumanBeing(dto);
+            }
+            try {
+                created = await(request, commitTimeoutMs);
+            } catch (TimeoutException again) {
+                throw new IllegalStateException("Timed out waiting for the group commit", again);
+            }
+        }
+        return created != null ? created : humanBeingService.createHumanBeing(dto);
+    }
+
+    private HumanBeingDTO await(PendingCreate request, long timeoutMs) throws TimeoutException {
+        try {
+            return request.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the group commit", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void run() {
+        List<PendingCreate> group = new ArrayList<>(maxBatchSize);
+        List<PendingCreate> deferred = new ArrayList<>();
+        while (true) {
+            try {
+                if (group.isEmpty()) {
+                    group.add(pending.take());
+                }
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (group.size() < maxBatchSize) {
+                    PendingCreate next = pending.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+            } catch (InterruptedException e) {
+                group.forEach(request -> request.result().complete(null));
+                pending.forEach(request -> request.result().complete(null));
+                return;
+            }
+
+            commit(group, deferred);
+            group.clear();
+            group.addAll(deferred);
+            deferred.clear();
+        }
+    }
+
+    private void commit(List<PendingCreate> group, List<PendingCreate> deferred) {
+        ImportKeySet groupKeys = new ImportKeySet();
+        List<PendingCreate> members = new ArrayList<>(group.size());
+        ImportChunk chunk = new ImportChunk(group.size());
+
+        for (PendingCreate request : group) {
+            if (!request.claimed().compareAndSet(false, true)) {
+                continue;
+            }
+            HumanBeingDTO dto = request.dto();
+            try {
+                chunkValidator.validateFields(dto);
+            } catch (IllegalArgumentException e) {
+                request.result().completeExceptionally(e);
+                continue;
+            }
+
+            ImportKeySet.NameKey nameKey = ImportKeySet.NameKey.of(dto);
+            if (!groupKeys.addName(nameKey)) {
+                request.claimed().set(false);
+                deferred.add(request);
+                continue;
+            }
+            if (Boolean.TRUE.equals(dto.getRealHero()) && !groupKeys.addHero(ImportKeySet.HeroKey.of(dto))) {
+                groupKeys.removeName(nameKey);
+                request.claimed().set(false);
+                deferred.add(request);
+                continue;
+            }
+            members.add(request);
+            chunk.add(dto, members.size() - 1);
+        }
+
+        if (members.isEmpty()) {
+            return;
+        }
+        groupSizes.record(members.size());
+
+        List<HumanBeingDTO> created;
+        try {
+            created = humanBeingService.createGroup(chunk);
+        } catch (RuntimeException e) {
+            fallbacks.increment();
+            members.forEach(request -> request.result().complete(null));
+            return;
+        }
+
+        for (int i = 0; i < members.size(); i++) {
+            if (chunk.isRejected(i)) {
+                members.get(i).result().completeExceptionally(new IllegalArgumentException(chunk.error(i)));
+            } else {
+                members.get(i).result().complete(created.get(i));
+            }
+        }
+    }
+
+    private record PendingCreate(HumanBeingDTO dto, CompletableFuture<HumanBeingDTO> result, AtomicBoolean claimed) {
+    }
+}
\ No newline at end of file
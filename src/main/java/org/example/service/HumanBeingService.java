@@ -1,13 +1,18 @@
 package org.example.service;
 
+import org.example.dto.CoordinatesDTO;
+import org.example.dto.HumanBeingBatchItemDTO;
 import org.example.dto.HumanBeingDTO;
+import org.example.dto.HumanBeingPageDTO;
+import org.example.dto.HumanBeingSliceDTO;
 import org.example.entity.*;
 import org.example.mapper.HumanBeingMapper;
 import org.example.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
@@ -15,13 +20,28 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(isolation = Isolation.READ_COMMITTED)
 public class HumanBeingService {
 
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+    public static final String SKIPPED = "SKIPPED";
+
+    private static final Set<String> LEGACY_FILTERS = Set.of("name", "car.name", "mood", "weaponType");
+
     @Autowired
     private HumanBeingRepository humanBeingRepository;
 
@@ -34,33 +54,126 @@ public class HumanBeingService {
     @Autowired
     private HumanBeingMapper mapper;
 
-    public Page<HumanBeingDTO> getAllHumanBeings(Pageable pageable, String filterBy, String filterValue) {
-        Page<HumanBeing> result;
-
-        if (filterBy != null && filterValue != null && !filterValue.trim().isEmpty()) {
-            switch (filterBy) {
-                case "name":
-                    result = humanBeingRepository.findByNameExact(filterValue.trim(), pageable);
-                    break;
-                case "car.name":
-                    result = humanBeingRepository.findByCarNameExact(filterValue.trim(), pageable);
-                    break;
-                case "mood":
-                    result = humanBeingRepository.findByMoodExact(filterValue.trim(), pageable);
-                    break;
-                case "weaponType":
-                    result = humanBeingRepository.findByWeaponTypeExact(filterValue.trim(), pageable);
-                    break;
-                default:
-                    result = humanBeingRepository.findAll(pageable);
+    @Autowired
+    private ImportInternRegistry internRegistry;
+
+    @Autowired
+    private ImportChunkValidator chunkValidator;
+
+    @Autowired
+    private ImportBatchWriter batchWriter;
+
+    @Autowired
+    private HumanBeingCounter counter;
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    @Transactional(readOnly = true)
+    public HumanBeingPageDTO getAllHumanBeings(Pageable pageable, String filterBy, String filterValue, String filter,
+                                               String countStrategy) {
+        HumanBeingCounter.Strategy strategy = counter.strategy(countStrategy);
+        HumanBeingFilter legacyFilter = legacyFilter(filterBy, filterValue);
+        HumanBeingFilter expression = HumanBeingFilter.parse(filter);
+        if (legacyFilter == null) {
+            return new HumanBeingPageDTO(List.of(), pageable, 0, HumanBeingCounter.Strategy.EXACT.name());
+        }
+
+        HumanBeingFilter combined = legacyFilter.and(expression);
+        Slice<HumanBeing> result = humanBeingRepository.findMatching(combined, pageable);
+
+        HumanBeingCounter.Count count = counter.count(combined, strategy);
+        long seen = pageable.getOffset() + result.getNumberOfElements() + (result.hasNext() ? 1 : 0);
+        List<HumanBeingDTO> content = result.getContent().stream().map(mapper::toDTO).toList();
+        return new HumanBeingPageDTO(content, pageable, Math.max(count.value(), seen), count.strategy().name());
+    }
+
+    @Transactional(readOnly = true)
+    public HumanBeingSliceDTO getHumanBeingSlice(String filterBy, String filterValue, String filter, String sortBy,
+                                                 String sortDir, String cursor, int size) {
+        HumanBeingProperty sortKey = HumanBeingProperty.of(sortBy);
+        boolean descending = "desc".equalsIgnoreCase(sortDir);
+
+        Object lastValue = null;
+        Long lastId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = decodeCursor(cursor);
+            if (!parts[0].equals(sortKey.getProperty()) || !parts[1].equals(descending ? "D" : "A")) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
             }
+            lastId = Long.valueOf(parts[2]);
+            lastValue = parts[3].startsWith("v:") ? parseCursorValue(sortKey, parts[3].substring(2)) : null;
+        }
+
+        HumanBeingFilter legacyFilter = legacyFilter(filterBy, filterValue);
+        HumanBeingFilter expression = HumanBeingFilter.parse(filter);
+        if (legacyFilter == null) {
+            return new HumanBeingSliceDTO(List.of(), size, false, null);
+        }
+
+        Slice<HumanBeing> slice = humanBeingRepository.findSliceAfter(legacyFilter.and(expression), sortKey,
+                descending, lastValue, lastId, size);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            HumanBeing last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = encodeCursor(sortKey, descending, last);
+        }
+        return new HumanBeingSliceDTO(slice.map(mapper::toDTO).getContent(), size, slice.hasNext(), nextCursor);
+    }
+
+    private HumanBeingFilter legacyFilter(String filterBy, String filterValue) {
+        if (filterBy == null || filterValue == null || filterValue.trim().isEmpty()
+                || !LEGACY_FILTERS.contains(filterBy)) {
+            return HumanBeingFilter.NONE;
+        }
+        try {
+            return HumanBeingFilter.exact(filterBy, filterValue.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String encodeCursor(HumanBeingProperty sortKey, boolean descending, HumanBeing last) {
+        Object value = sortKey.valueOf(last);
+        String encodedValue;
+        if (value == null) {
+            encodedValue = "null";
+        } else if (value instanceof Date date) {
+            encodedValue = "v:" + (date instanceof Timestamp timestamp ? timestamp.toInstant() : date.toInstant());
+        } else if (value instanceof Enum<?> constant) {
+            encodedValue = "v:" + constant.name();
         } else {
-            result = humanBeingRepository.findAll(pageable);
+            encodedValue = "v:" + value;
         }
 
-        return result.map(mapper::toDTO);
+        String token = sortKey.getProperty() + "\n" + (descending ? "D" : "A") + "\n" + last.getId() + "\n" +
+                encodedValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = token.split("\n", 4);
+            if (parts.length == 4) {
+                Long.parseLong(parts[2]);
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    private Object parseCursorValue(HumanBeingProperty sortKey, String value) {
+        try {
+            return sortKey.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
+    @Transactional(readOnly = true)
     public HumanBeingDTO getHumanBeingById(Long id) {
         return humanBeingRepository.findById(id)
                 .map(mapper::toDTO)
@@ -68,6 +181,7 @@ public class HumanBeingService {
     }
 
     public HumanBeingDTO createHumanBeing(HumanBeingDTO dto) {
+        counter.invalidateAfterCommit();
         HumanBeing entity = mapper.toEntity(dto);
 
         if (dto.getCoordinates() != null) {
@@ -84,8 +198,7 @@ public class HumanBeingService {
             } else {
                 coords = coordinatesRepository.findById(dto.getCoordinates().getId())
                         .orElseThrow(() -> new RuntimeException("Coordinates not found"));
-                if (dto.getCoordinates().getX() != null) coords.setX(dto.getCoordinates().getX());
-                if (dto.getCoordinates().getY() != null) coords.setY(dto.getCoordinates().getY());
+                coords = editCoordinates(coords, dto.getCoordinates(), null);
                 if (coords.getY() != null && coords.getY() <= -926) {
                     throw new IllegalArgumentException("Y coordinate must be greater than -926");
                 }
@@ -136,7 +249,78 @@ public class HumanBeingService {
         return mapper.toDTO(saved);
     }
 
+    public List<HumanBeingBatchItemDTO> createHumanBeings(List<HumanBeingDTO> dtos, boolean atomic) {
+        HumanBeingBatchItemDTO[] results = new HumanBeingBatchItemDTO[dtos.size()];
+        List<ImportChunk> chunks = new ArrayList<>();
+        ImportKeySet batchKeys = new ImportKeySet();
+        int rejected = 0;
+
+        ImportChunk chunk = new ImportChunk(chunkSize);
+        for (int i = 0; i < dtos.size(); i++) {
+            HumanBeingDTO dto = dtos.get(i);
+            if (dto == null) {
+                results[i] = new HumanBeingBatchItemDTO(i, REJECTED, null, "Item cannot be null");
+                rejected++;
+            } else if ((dto.getCar() != null && dto.getCar().getId() != null)
+                    || (dto.getCoordinates() != null && dto.getCoordinates().getId() != null)) {
+                results[i] = new HumanBeingBatchItemDTO(i, REJECTED, null,
+                        "Existing cars and coordinates cannot be referenced by id in a batch");
+                rejected++;
+            } else {
+                chunk.add(dto, i);
+            }
+
+            if (chunk.size() == chunkSize || (i == dtos.size() - 1 && !chunk.isEmpty())) {
+                chunkValidator.validate(chunk, batchKeys);
+                for (int j = 0; j < chunk.size(); j++) {
+                    if (chunk.isRejected(j)) {
+                        results[chunk.lineNumber(j)] = new HumanBeingBatchItemDTO(chunk.lineNumber(j), REJECTED,
+                                null, chunk.error(j));
+                    }
+                }
+                rejected += chunk.rejectedCount();
+                chunks.add(chunk);
+                chunk = new ImportChunk(chunkSize);
+            }
+        }
+
+        if (atomic && rejected > 0) {
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    results[i] = new HumanBeingBatchItemDTO(i, SKIPPED, null, null);
+                }
+            }
+            return Arrays.asList(results);
+        }
+
+        ImportInternCache internCache = new ImportInternCache(internRegistry);
+        for (ImportChunk validated : chunks) {
+            Iterator<Long> ids = batchWriter.write(validated.acceptedRecords(), internCache).iterator();
+            for (int j = 0; j < validated.size(); j++) {
+                if (!validated.isRejected(j)) {
+                    int index = validated.lineNumber(j);
+                    results[index] = new HumanBeingBatchItemDTO(index, CREATED, ids.next(), null);
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    public List<HumanBeingDTO> createGroup(ImportChunk chunk) {
+        counter.invalidateAfterCommit();
+        chunkValidator.validate(chunk, new ImportKeySet());
+
+        List<HumanBeing> entities = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            entities.add(chunk.isRejected(i) ? null : mapper.toEntity(chunk.get(i)));
+        }
+        humanBeingRepository.saveAll(entities.stream().filter(Objects::nonNull).toList());
+
+        return entities.stream().map(entity -> entity != null ? mapper.toDTO(entity) : null).toList();
+    }
+
     public HumanBeingDTO updateHumanBeing(Long id, HumanBeingDTO dto) {
+        counter.invalidateAfterCommit();
         HumanBeing existing = humanBeingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("HumanBeing not found with id: " + id));
 
@@ -153,8 +337,7 @@ public class HumanBeingService {
             if (dto.getCoordinates().getId() != null) {
                 coords = coordinatesRepository.findById(dto.getCoordinates().getId())
                         .orElseThrow(() -> new RuntimeException("Coordinates not found"));
-                if (dto.getCoordinates().getX() != null) coords.setX(dto.getCoordinates().getX());
-                if (dto.getCoordinates().getY() != null) coords.setY(dto.getCoordinates().getY());
+                coords = editCoordinates(coords, dto.getCoordinates(), existing.getCoordinates());
             } else {
                 coords = mapper.toCoordinatesEntity(dto.getCoordinates());
             }
@@ -174,8 +357,8 @@ public class HumanBeingService {
             if (dto.getCar().getId() != null) {
                 Car car = carRepository.findById(dto.getCar().getId())
                         .orElseThrow(() -> new RuntimeException("Car not found"));
-                car.setName(dto.getCar().getName());
-                carRepository.save(car);
+                car = renameCar(car, dto.getCar().getName(), existing.getCar());
+                car = carRepository.save(car);
                 existing.setCar(car);
             } else {
                 Car car = mapper.toCarEntity(dto.getCar());
@@ -213,7 +396,46 @@ public class HumanBeingService {
         return mapper.toDTO(updated);
     }
 
+    private Coordinates editCoordinates(Coordinates coords, CoordinatesDTO changes, Coordinates current) {
+        Integer x = changes.getX() != null ? changes.getX() : coords.getX();
+        Double y = changes.getY() != null ? changes.getY() : coords.getY();
+        if (Objects.equals(x, coords.getX()) && Objects.equals(y, coords.getY())) {
+            return coords;
+        }
+
+        if (isShared(humanBeingRepository.countByCoordinatesId(coords.getId()), coords.getId(),
+                current != null ? current.getId() : null)) {
+            coords = new Coordinates();
+        } else {
+            internRegistry.forgetCoordinates(coords.getId());
+        }
+        coords.setX(x);
+        coords.setY(y);
+        return coords;
+    }
+
+    private Car renameCar(Car car, String name, Car current) {
+        if (Objects.equals(name, car.getName())) {
+            return car;
+        }
+
+        if (isShared(humanBeingRepository.countByCarId(car.getId()), car.getId(),
+                current != null ? current.getId() : null)) {
+            car = new Car();
+        } else {
+            internRegistry.forgetCar(car.getId());
+        }
+        car.setName(name);
+        return car;
+    }
+
+    private boolean isShared(Long usages, Long id, Long currentId) {
+        long others = usages - (Objects.equals(id, currentId) ? 1 : 0);
+        return others > 0;
+    }
+
     public void deleteHumanBeing(Long id, Long replacementId) {
+        counter.invalidateAfterCommit();
         HumanBeing toDelete = humanBeingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("HumanBeing not found with id: " + id));
 
@@ -238,6 +460,7 @@ public class HumanBeingService {
     }
 
     public HumanBeing deleteOneByWeaponType(WeaponType weaponType) {
+        counter.invalidateAfterCommit();
         try {
             List<HumanBeing> found = humanBeingRepository.findByWeaponType(weaponType);
             if (found.isEmpty()) {
@@ -264,6 +487,7 @@ public class HumanBeingService {
         return avg != null ? avg : 0.0;
     }
 
+    @Transactional(readOnly = true)
     public List<HumanBeingDTO> findByNameContaining(String substring) {
         return humanBeingRepository.findByNameContaining(substring)
                 .stream()
@@ -272,6 +496,7 @@ public class HumanBeingService {
     }
 
     public int setAllHeroesMoodToSadness() {
+        counter.invalidateAfterCommit();
         int totalChanged = 0;
         int batchSize = 1000;
         long lastId = 0L;
@@ -303,6 +528,7 @@ public class HumanBeingService {
 
 
     public int setAllHeroesWithoutCarToRedLadaKalina() {
+        counter.invalidateAfterCommit();
         List<HumanBeing> heroesWithoutCar = humanBeingRepository.findAllHeroesWithoutCar();
         Car redLadaKalina = carRepository.findAll().stream()
                 .filter(c -> c.getName() != null && c.getName().equals("Lada Kalina"))
@@ -321,6 +547,7 @@ public class HumanBeingService {
     }
 
     public void deleteAllHumanBeings() {
+        counter.invalidateAfterCommit();
         humanBeingRepository.deleteAll();
     }
 
@@ -0,0 +1,67 @@
+package org.example.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+public class IdleAwareInputStream extends FilterInputStream {
+
+    private final Runnable onIdle;
+    private final long minIdleIntervalNanos;
+    private long lastIdle;
+
+    public IdleAwareInputStream(InputStream in, Runnable onIdle, long minIdleIntervalMillis) {
+        super(in);
+        this.onIdle = onIdle;
+        this.minIdleIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minIdleIntervalMillis));
+        this.lastIdle = System.nanoTime();
+    }
+
+    @Override
+    public int read() throws IOException {
+        beforeRead();
+        return super.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        beforeRead();
+        return super.read(b, off, len);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void beforeRead() throws IOException {
+        if (in.available() > 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastIdle < minIdleIntervalNanos) {
+            return;
+        }
+        lastIdle = now;
+        try {
+            onIdle.run();
+        } catch (RuntimeException e) {
+            throw new IdleCallbackException(e);
+        }
+    }
+
+    public static class IdleCallbackException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private IdleCallbackException(RuntimeException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
\ No newline at end of file
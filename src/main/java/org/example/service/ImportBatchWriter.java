@@ -0,0 +1,185 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.Car;
+import org.example.entity.Coordinates;
+import org.example.entity.HumanBeing;
+import org.example.repository.CarRepository;
+import org.example.repository.CoordinatesRepository;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class ImportBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CoordinatesRepository coordinatesRepository;
+
+    @Autowired
+    private ImportInternRegistry internRegistry;
+
+    @Autowired
+    private ImportMetrics metrics;
+
+    @Autowired
+    private HumanBeingCounter counter;
+
+    @Value("${import.jdbc-batch-size:50}")
+    private int jdbcBatchSize;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Long> write(List<HumanBeingDTO> records, ImportInternCache internCache) {
+        long start = System.nanoTime();
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(jdbcBatchSize);
+        try {
+            Map<String, Long> learnedCars = new HashMap<>();
+            Map<ImportInternCache.CoordinatesKey, Long> learnedCoordinates = new HashMap<>();
+            trackCompletion(internCache, learnedCars, learnedCoordinates);
+            preload(records, internCache, learnedCars, learnedCoordinates);
+
+            Date creationDate = new Date();
+            List<Long> ids = new ArrayList<>(records.size());
+            for (HumanBeingDTO dto : records) {
+                HumanBeing entity = toEntity(dto, creationDate, internCache, learnedCars, learnedCoordinates);
+                entityManager.persist(entity);
+                ids.add(entity.getId());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            metrics.recordWritten(start, records.size());
+            return ids;
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    private void preload(List<HumanBeingDTO> records, ImportInternCache internCache, Map<String, Long> learnedCars,
+                         Map<ImportInternCache.CoordinatesKey, Long> learnedCoordinates) {
+        Set<String> names = new HashSet<>();
+        Set<ImportInternCache.CoordinatesKey> keys = new HashSet<>();
+        Set<Integer> xs = new HashSet<>();
+        Set<Double> ys = new HashSet<>();
+
+        for (HumanBeingDTO dto : records) {
+            String name = dto.getCar().getName();
+            if (name != null && !internCache.knowsCar(name)) {
+                names.add(name);
+            }
+
+            ImportInternCache.CoordinatesKey key = coordinatesKey(dto);
+            if (!internCache.knowsCoordinates(key)) {
+                keys.add(key);
+                xs.add(key.x());
+                ys.add(key.y());
+            }
+        }
+
+        if (!names.isEmpty()) {
+            for (Object[] row : carRepository.findIdsByNames(names)) {
+                internCache.putCar((String) row[0], (Long) row[1]);
+                learnedCars.put((String) row[0], (Long) row[1]);
+            }
+        }
+        if (!keys.isEmpty()) {
+            for (Object[] row : coordinatesRepository.findIdsByValues(xs, ys)) {
+                ImportInternCache.CoordinatesKey key = new ImportInternCache.CoordinatesKey((Integer) row[0],
+                        (Double) row[1]);
+                if (keys.contains(key)) {
+                    internCache.putCoordinates(key, (Long) row[2]);
+                    learnedCoordinates.put(key, (Long) row[2]);
+                }
+            }
+        }
+    }
+
+    private void trackCompletion(ImportInternCache internCache, Map<String, Long> learnedCars,
+                                 Map<ImportInternCache.CoordinatesKey, Long> learnedCoordinates) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.invalidate();
+                internRegistry.rememberCars(learnedCars);
+                internRegistry.rememberCoordinates(learnedCoordinates);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    internCache.forget(learnedCars.keySet(), learnedCoordinates.keySet());
+                }
+            }
+        });
+    }
+
+    private ImportInternCache.CoordinatesKey coordinatesKey(HumanBeingDTO dto) {
+        return new ImportInternCache.CoordinatesKey(dto.getCoordinates().getX(), dto.getCoordinates().getY());
+    }
+
+    private HumanBeing toEntity(HumanBeingDTO dto, Date creationDate, ImportInternCache internCache,
+                                Map<String, Long> learnedCars,
+                                Map<ImportInternCache.CoordinatesKey, Long> learnedCoordinates) {
+        ImportInternCache.CoordinatesKey key = coordinatesKey(dto);
+        Long coordinatesId = internCache.coordinatesId(key);
+        Coordinates coords;
+        if (coordinatesId != null) {
+            coords = entityManager.getReference(Coordinates.class, coordinatesId);
+        } else {
+            coords = new Coordinates();
+            coords.setX(key.x());
+            coords.setY(key.y());
+            entityManager.persist(coords);
+            internCache.putCoordinates(key, coords.getId());
+            learnedCoordinates.put(key, coords.getId());
+        }
+
+        String carName = dto.getCar().getName();
+        Long carId = internCache.carId(carName);
+        Car car;
+        if (carId != null) {
+            car = entityManager.getReference(Car.class, carId);
+        } else {
+            car = new Car();
+            car.setName(carName);
+            entityManager.persist(car);
+            internCache.putCar(carName, car.getId());
+            learnedCars.put(carName, car.getId());
+        }
+
+        HumanBeing entity = new HumanBeing();
+        entity.setName(dto.getName());
+        entity.setCoordinates(coords);
+        entity.setCar(car);
+        entity.setRealHero(dto.getRealHero());
+        entity.setHasToothpick(dto.getHasToothpick());
+        entity.setMood(dto.getMood());
+        entity.setImpactSpeed(dto.getImpactSpeed());
+        entity.setMinutesOfWaiting(dto.getMinutesOfWaiting());
+        entity.setWeaponType(dto.getWeaponType());
+        entity.setCreationDate(creationDate);
+        return entity;
+    }
+}
\ No newline at end of file
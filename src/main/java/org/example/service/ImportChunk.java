@@ -0,0 +1,98 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ImportChunk {
+
+    private final List<HumanBeingDTO> records;
+    private int[] lineNumbers;
+    private String[] errors;
+    private int rejected;
+
+    public ImportChunk(int capacity) {
+        this.records = new ArrayList<>(capacity);
+        this.lineNumbers = new int[capacity];
+        this.errors = new String[capacity];
+    }
+
+    public void add(HumanBeingDTO dto, int lineNumber) {
+        if (records.size() == lineNumbers.length) {
+            int capacity = Math.max(1, lineNumbers.length * 2);
+            lineNumbers = Arrays.copyOf(lineNumbers, capacity);
+            errors = Arrays.copyOf(errors, capacity);
+        }
+        lineNumbers[records.size()] = lineNumber;
+        records.add(dto);
+    }
+
+    public void reject(int index, String reason) {
+        if (errors[index] == null) {
+            errors[index] = reason;
+            rejected++;
+        }
+    }
+
+    public boolean isRejected(int index) {
+        return errors[index] != null;
+    }
+
+    public String error(int index) {
+        return errors[index];
+    }
+
+    public int firstRejected() {
+        for (int i = 0; i < records.size(); i++) {
+            if (errors[i] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int rejectedCount() {
+        return rejected;
+    }
+
+    public List<HumanBeingDTO> acceptedRecords() {
+        if (rejected == 0) {
+            return records;
+        }
+        List<HumanBeingDTO> accepted = new ArrayList<>(records.size() - rejected);
+        for (int i = 0; i < records.size(); i++) {
+            if (errors[i] == null) {
+                accepted.add(records.get(i));
+            }
+        }
+        return accepted;
+    }
+
+    public HumanBeingDTO get(int index) {
+        return records.get(index);
+    }
+
+    public int lineNumber(int index) {
+        return lineNumbers[index];
+    }
+
+    public List<HumanBeingDTO> records() {
+        return records;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    public void clear() {
+        Arrays.fill(errors, 0, records.size(), null);
+        rejected = 0;
+        records.clear();
+    }
+}
\ No newline at end of file
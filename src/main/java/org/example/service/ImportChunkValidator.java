@@ -0,0 +1,146 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+import org.example.repository.HumanBeingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Service
+public class ImportChunkValidator {
+
+    @Autowired
+    private HumanBeingRepository humanBeingRepository;
+
+    @Autowired
+    private ImportMetrics metrics;
+
+    public void validate(ImportChunk chunk, ImportKeySet fileKeys) {
+        long start = System.nanoTime();
+        try {
+            validateChunk(chunk, fileKeys);
+        } finally {
+            metrics.recordStage(ImportMetrics.Stage.VALIDATE, start);
+        }
+    }
+
+    private void validateChunk(ImportChunk chunk, ImportKeySet fileKeys) {
+        Set<String> names = new HashSet<>();
+        Set<Integer> xs = new HashSet<>();
+        Set<Float> speeds = new HashSet<>();
+        Set<Float> waits = new HashSet<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            HumanBeingDTO dto = chunk.get(i);
+            try {
+                validateFields(dto);
+            } catch (IllegalArgumentException e) {
+                chunk.reject(i, e.getMessage());
+                continue;
+            }
+
+            ImportKeySet.NameKey nameKey = ImportKeySet.NameKey.of(dto);
+            if (!fileKeys.addName(nameKey)) {
+                chunk.reject(i, "HumanBeing with name '" + dto.getName() + "' and coordinates (" +
+                        dto.getCoordinates().getX() + ", " + dto.getCoordinates().getY() + ") is duplicated in the file");
+                continue;
+            }
+            if (Boolean.TRUE.equals(dto.getRealHero()) && !fileKeys.addHero(ImportKeySet.HeroKey.of(dto))) {
+                fileKeys.removeName(nameKey);
+                chunk.reject(i, "Hero with impactSpeed " + dto.getImpactSpeed() +
+                        " and minutesOfWaiting " + dto.getMinutesOfWaiting() + " is duplicated in the file");
+                continue;
+            }
+
+            names.add(dto.getName());
+            xs.add(dto.getCoordinates().getX());
+            if (Boolean.TRUE.equals(dto.getRealHero())) {
+                speeds.add(dto.getImpactSpeed());
+                waits.add(dto.getMinutesOfWaiting());
+            }
+        }
+
+        Set<ImportKeySet.NameKey> existingNames = new HashSet<>();
+        if (!names.isEmpty()) {
+            for (Object[] row : humanBeingRepository.findNameCoordinateKeys(names, xs)) {
+                existingNames.add(new ImportKeySet.NameKey((String) row[0], (Integer) row[1], (Double) row[2]));
+            }
+        }
+
+        Set<ImportKeySet.HeroKey> existingHeroes = new HashSet<>();
+        if (!speeds.isEmpty()) {
+            for (Object[] row : humanBeingRepository.findHeroKeys(speeds, waits)) {
+                existingHeroes.add(new ImportKeySet.HeroKey((Float) row[0], (Float) row[1]));
+            }
+        }
+
+        if (existingNames.isEmpty() && existingHeroes.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.isRejected(i)) {
+                continue;
+            }
+            HumanBeingDTO dto = chunk.get(i);
+            if (existingNames.contains(ImportKeySet.NameKey.of(dto))) {
+                fileKeys.remove(dto);
+                chunk.reject(i, "HumanBeing with name '" + dto.getName() + "' and coordinates (" +
+                        dto.getCoordinates().getX() + ", " + dto.getCoordinates().getY() + ") already exists");
+            } else if (Boolean.TRUE.equals(dto.getRealHero())
+                    && existingHeroes.contains(ImportKeySet.HeroKey.of(dto))) {
+                fileKeys.remove(dto);
+                chunk.reject(i, "Hero with impactSpeed " + dto.getImpactSpeed() +
+                        " and minutesOfWaiting " + dto.getMinutesOfWaiting() + " already exists");
+            }
+        }
+    }
+
+    public void validateFields(HumanBeingDTO dto) {
+        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+
+        if (dto.getCoordinates() == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+
+        if (dto.getCoordinates().getX() == null || dto.getCoordinates().getY() == null) {
+            throw new IllegalArgumentException("Coordinates x and y cannot be null");
+        }
+
+        if (dto.getCoordinates().getX() > 112) {
+            throw new IllegalArgumentException("X coordinate cannot exceed 112");
+        }
+
+        if (dto.getCoordinates().getY() <= -926) {
+            throw new IllegalArgumentException("Y coordinate must be greater than -926");
+        }
+
+        if (dto.getImpactSpeed() == null) {
+            throw new IllegalArgumentException("Impact speed cannot be null");
+        }
+
+        if (dto.getImpactSpeed() > 345) {
+            throw new IllegalArgumentException("Impact speed cannot exceed 345");
+        }
+
+        if (dto.getMinutesOfWaiting() == null) {
+            throw new IllegalArgumentException("Minutes of waiting cannot be null");
+        }
+
+        if (dto.getMood() == null) {
+            throw new IllegalArgumentException("Mood cannot be null");
+        }
+
+        if (dto.getRealHero() == null) {
+            throw new IllegalArgumentException("Real hero cannot be null");
+        }
+
+        if (dto.getCar() == null) {
+            throw new IllegalArgumentException("Car cannot be null");
+        }
+    }
+}
\ No newline at end of file
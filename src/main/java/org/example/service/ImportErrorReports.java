@@ -0,0 +1,38 @@
+package org.example.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Service
+public class ImportErrorReports {
+
+    @Value("${import.report-dir:${java.io.tmpdir}/is-lab-import-reports}")
+    private Path reportDir;
+
+    public RejectedRowWriter open(Long importId) {
+        return new RejectedRowWriter(path(importId));
+    }
+
+    public String fileName(Long importId) {
+        return "import-" + importId + "-rejected.csv";
+    }
+
+    public Path path(Long importId) {
+        return reportDir.resolve(fileName(importId));
+    }
+
+    public boolean exists(Long importId) {
+        return Files.exists(path(importId));
+    }
+
+    public void delete(Long importId) {
+        try {
+            Files.deleteIfExists(path(importId));
+        } catch (IOException e) {
+        }
+    }
+}
\ No newline at end of file
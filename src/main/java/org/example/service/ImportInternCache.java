@@ -0,0 +1,101 @@
+package org.example.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ImportInternCache {
+
+    public record CoordinatesKey(Integer x, Double y) {
+    }
+
+    private final ImportInternRegistry registry;
+    private final Map<String, Long> carIds = new HashMap<>();
+    private final Map<CoordinatesKey, Long> coordinatesIds = new HashMap<>();
+    private int carHits;
+    private int carMisses;
+    private int coordinatesHits;
+    private int coordinatesMisses;
+
+    public ImportInternCache(ImportInternRegistry registry) {
+        this.registry = registry;
+    }
+
+    public boolean knowsCar(String name) {
+        if (carIds.containsKey(name)) {
+            return true;
+        }
+        Long id = registry.carId(name);
+        if (id != null) {
+            carIds.put(name, id);
+        }
+        return id != null;
+    }
+
+    public boolean knowsCoordinates(CoordinatesKey key) {
+        if (coordinatesIds.containsKey(key)) {
+            return true;
+        }
+        Long id = registry.coordinatesId(key);
+        if (id != null) {
+            coordinatesIds.put(key, id);
+        }
+        return id != null;
+    }
+
+    public Long carId(String name) {
+        Long id = carIds.get(name);
+        if (id != null) {
+            carHits++;
+        } else {
+            carMisses++;
+        }
+        return id;
+    }
+
+    public Long coordinatesId(CoordinatesKey key) {
+        Long id = coordinatesIds.get(key);
+        if (id != null) {
+            coordinatesHits++;
+        } else {
+            coordinatesMisses++;
+        }
+        return id;
+    }
+
+    public void putCar(String name, Long id) {
+        carIds.put(name, id);
+    }
+
+    public void putCoordinates(CoordinatesKey key, Long id) {
+        coordinatesIds.put(key, id);
+    }
+
+    public void forget(Collection<String> cars, Collection<CoordinatesKey> coordinates) {
+        carIds.keySet().removeAll(cars);
+        coordinatesIds.keySet().removeAll(coordinates);
+    }
+
+    public void record(int carHits, int carMisses, int coordinatesHits, int coordinatesMisses) {
+        this.carHits += carHits;
+        this.carMisses += carMisses;
+        this.coordinatesHits += coordinatesHits;
+        this.coordinatesMisses += coordinatesMisses;
+    }
+
+    public int getCarHits() {
+        return carHits;
+    }
+
+    public int getCarMisses() {
+        return carMisses;
+    }
+
+    public int getCoordinatesHits() {
+        return coordinatesHits;
+    }
+
+    public int getCoordinatesMisses() {
+        return coordinatesMisses;
+    }
+}
\ No newline at end of file
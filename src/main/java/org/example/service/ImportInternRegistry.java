@@ -0,0 +1,59 @@
+package org.example.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class ImportInternRegistry {
+
+    @Value("${import.intern.global-capacity:10000}")
+    private int capacity;
+
+    private final Map<String, Long> carIds = new Lru<>();
+    private final Map<ImportInternCache.CoordinatesKey, Long> coordinatesIds = new Lru<>();
+
+    public synchronized Long carId(String name) {
+        return capacity > 0 ? carIds.get(name) : null;
+    }
+
+    public synchronized Long coordinatesId(ImportInternCache.CoordinatesKey key) {
+        return capacity > 0 ? coordinatesIds.get(key) : null;
+    }
+
+    public synchronized void rememberCars(Map<String, Long> cars) {
+        if (capacity > 0) {
+            carIds.putAll(cars);
+        }
+    }
+
+    public synchronized void rememberCoordinates(Map<ImportInternCache.CoordinatesKey, Long> coordinates) {
+        if (capacity > 0) {
+            coordinatesIds.putAll(coordinates);
+        }
+    }
+
+    public synchronized void forgetCar(Long id) {
+        carIds.values().remove(id);
+    }
+
+    public synchronized void forgetCoordinates(Long id) {
+        coordinatesIds.values().remove(id);
+    }
+
+    private class Lru<K> extends LinkedHashMap<K, Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private Lru() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+            return size() > capacity;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ImportKeySet {
+
+    private final Set<NameKey> names = ConcurrentHashMap.newKeySet();
+    private final Set<HeroKey> heroes = ConcurrentHashMap.newKeySet();
+
+    public boolean addName(NameKey key) {
+        return names.add(key);
+    }
+
+    public void removeName(NameKey key) {
+        names.remove(key);
+    }
+
+    public boolean addHero(HeroKey key) {
+        return heroes.add(key);
+    }
+
+    public void removeHero(HeroKey key) {
+        heroes.remove(key);
+    }
+
+    public void remove(HumanBeingDTO dto) {
+        removeName(NameKey.of(dto));
+        if (Boolean.TRUE.equals(dto.getRealHero())) {
+            removeHero(HeroKey.of(dto));
+        }
+    }
+
+    public record NameKey(String name, Integer x, Double y) {
+
+        public static NameKey of(HumanBeingDTO dto) {
+            return new NameKey(dto.getName(), dto.getCoordinates().getX(), dto.getCoordinates().getY());
+        }
+    }
+
+    public record HeroKey(Float impactSpeed, Float minutesOfWaiting) {
+
+        public static HeroKey of(HumanBeingDTO dto) {
+            return new HeroKey(dto.getImpactSpeed(), dto.getMinutesOfWaiting());
+        }
+    }
+}
\ No newline at end of file
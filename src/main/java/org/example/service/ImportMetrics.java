@@ -0,0 +1,164 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.ImportHistory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ImportMetrics {
+
+    public enum Stage {
+        PARSE,
+        VALIDATE,
+        WRITE,
+        PROGRESS
+    }
+
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final long[] rateSeconds = new long[RATE_WINDOW_SECONDS];
+    private final long[] rateRows = new long[RATE_WINDOW_SECONDS];
+    private Counter parsedRows;
+    private Counter writtenRows;
+    private Counter rejectedRows;
+
+    @PostConstruct
+    void registerMeters() {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("import.stage")
+                    .description("Time spent in each import stage")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        parsedRows = Counter.builder("import.rows.parsed").register(meterRegistry);
+        writtenRows = Counter.builder("import.rows.written").register(meterRegistry);
+        rejectedRows = Counter.builder("import.rows.rejected").register(meterRegistry);
+        Gauge.builder("import.rows.rate", this, ImportMetrics::rowsPerSecond)
+                .description("Rows written per second over the last " + RATE_WINDOW_SECONDS + " seconds")
+                .register(meterRegistry);
+    }
+
+    public void recordStage(Stage stage, long startNanos) {
+        stageTimers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordParsed(long nanos, int rows) {
+        stageTimers.get(Stage.PARSE).record(nanos, TimeUnit.NANOSECONDS);
+        parsedRows.increment(rows);
+    }
+
+    public void recordWritten(long startNanos, int rows) {
+        recordStage(Stage.WRITE, startNanos);
+        writtenRows.increment(rows);
+        countRate(rows);
+    }
+
+    public void recordRejected(int rows) {
+        rejectedRows.increment(rows);
+    }
+
+    public void recordProgressFailure(String reason) {
+        Counter.builder("import.progress.failures")
+                .description("Progress notifications that could not be scheduled or sent")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordImport(ImportHistory.ImportMode mode, String outcome, long startNanos) {
+        Timer.builder("import.duration")
+                .description("Wall-clock time of whole imports")
+                .tag("mode", mode != null ? mode.name() : "UNKNOWN")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public ImportRecordReader timed(ImportRecordReader reader) {
+        return new TimedRecordReader(reader);
+    }
+
+    private synchronized void countRate(int rows) {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        int slot = (int) (second % RATE_WINDOW_SECONDS);
+        if (rateSeconds[slot] != second) {
+            rateSeconds[slot] = second;
+            rateRows[slot] = 0;
+        }
+        rateRows[slot] += rows;
+    }
+
+    private synchronized double rowsPerSecond() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long rows = 0;
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            if (second - rateSeconds[i] < RATE_WINDOW_SECONDS) {
+                rows += rateRows[i];
+            }
+        }
+        return (double) rows / RATE_WINDOW_SECONDS;
+    }
+
+    private class TimedRecordReader implements ImportRecordReader {
+
+        private static final int RECORDS_PER_SAMPLE = 1000;
+
+        private final ImportRecordReader delegate;
+        private long nanos;
+        private int rows;
+
+        private TimedRecordReader(ImportRecordReader delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HumanBeingDTO next() throws IOException {
+            long start = System.nanoTime();
+            HumanBeingDTO dto = delegate.next();
+            nanos += System.nanoTime() - start;
+            if (dto != null && ++rows == RECORDS_PER_SAMPLE) {
+                flush();
+            }
+            return dto;
+        }
+
+        @Override
+        public int skip(int records) throws IOException {
+            return delegate.skip(records);
+        }
+
+        @Override
+        public int getLineNumber() {
+            return delegate.getLineNumber();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            delegate.close();
+        }
+
+        private void flush() {
+            if (rows > 0) {
+                recordParsed(nanos, rows);
+            }
+            nanos = 0;
+            rows = 0;
+        }
+    }
+}
\ No newline at end of file
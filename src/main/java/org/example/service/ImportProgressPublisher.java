@@ -0,0 +1,269 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.controller.WebSocketNotificationService;
+import org.example.dto.ImportProgressDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+@Service
+public class ImportProgressPublisher {
+
+    private static final String QUEUED = "QUEUED";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+    private static final String CANCELLED = "CANCELLED";
+
+    @Autowired
+    private WebSocketNotificationService notificationService;
+
+    @Autowired
+    private ImportMetrics metrics;
+
+    @Value("${import.progress.min-interval-ms:250}")
+    private long minIntervalMs;
+
+    @Value("${import.progress.min-percent-step:5}")
+    private int minPercentStep;
+
+    @Value("${import.progress.retention-ms:300000}")
+    private long retentionMs;
+
+    @Value("${import.progress.max-entries:10000}")
+    private int maxEntries;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, Tracker> trackers = new ConcurrentHashMap<>();
+    private final Queue<Tracker> finishedOrder = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import-progress-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Counter expiredEvictions;
+    private Counter capacityEvictions;
+
+    @PostConstruct
+    void registerMeters() {
+        Gauge.builder("import.progress.registry.size", trackers, Map::size)
+                .description("Imports whose live progress is held in memory")
+                .register(meterRegistry);
+        expiredEvictions = Counter.builder("import.progress.evictions").tag("reason", "expired")
+                .register(meterRegistry);
+        capacityEvictions = Counter.builder("import.progress.evictions").tag("reason", "capacity")
+                .register(meterRegistry);
+    }
+
+    public void start(Long importId, String fileName) {
+        if (trackers.size() >= maxEntries) {
+            evictOldest();
+        }
+        trackers.put(importId, new Tracker(importId, fileName));
+    }
+
+    public void update(Long importId, int processed, int total, int successful, int failed) {
+        Tracker tracker = trackers.get(importId);
+        if (tracker == null) {
+            return;
+        }
+
+        int progress = total > 0 ? Math.min(99, (int) (processed * 100.0 / total)) : 0;
+        Snapshot current = tracker.state.get();
+        Snapshot next = new Snapshot(QUEUED.equals(current.status()) ? IN_PROGRESS : current.status(),
+                processed, total, successful, failed, progress, null, null);
+        if (current.isTerminal() || !tracker.state.compareAndSet(current, next)) {
+            return;
+        }
+
+        if (tracker.scheduled.compareAndSet(false, true)) {
+            long delayNanos = progress - tracker.lastSentProgress >= minPercentStep
+                    ? 0
+                    : Math.max(0, tracker.lastSentAt + TimeUnit.MILLISECONDS.toNanos(minIntervalMs) - System.nanoTime());
+            schedule(tracker, delayNanos);
+        }
+    }
+
+    public void queued(Long importId, int position) {
+        transition(importId, current -> QUEUED.equals(current.status()) && !Integer.valueOf(position)
+                .equals(current.queuePosition()) ? current.withStatus(QUEUED, position) : null);
+    }
+
+    public void status(Long importId, String status) {
+        transition(importId, current -> current.withStatus(status, null));
+    }
+
+    public void complete(Long importId, int processed, int total, int successful, int failed) {
+        finish(importId, new Snapshot(COMPLETED, processed, total, successful, failed, 100, null, null));
+    }
+
+    public void fail(Long importId, String errorMessage) {
+        finish(importId, FAILED, errorMessage);
+    }
+
+    public void cancel(Long importId) {
+        finish(importId, CANCELLED, "Import was cancelled");
+    }
+
+    public ImportProgressDTO get(Long importId) {
+        Tracker tracker = trackers.get(importId);
+        return tracker != null ? tracker.toDTO(tracker.state.get()) : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdown();
+    }
+
+    private void finish(Long importId, String status, String errorMessage) {
+        Tracker tracker = trackers.get(importId);
+        Snapshot last = tracker != null ? tracker.state.get() : Snapshot.EMPTY;
+        finish(importId, new Snapshot(status, last.processed(), last.total(), last.successful(), last.failed(),
+                last.progress(), errorMessage, null));
+    }
+
+    private void transition(Long importId, UnaryOperator<Snapshot> change) {
+        Tracker tracker = trackers.get(importId);
+        if (tracker == null) {
+            return;
+        }
+        while (true) {
+            Snapshot current = tracker.state.get();
+            Snapshot next = current.isTerminal() ? null : change.apply(current);
+            if (next == null) {
+                return;
+            }
+            if (tracker.state.compareAndSet(current, next)) {
+                schedule(tracker, 0);
+                return;
+            }
+        }
+    }
+
+    private void finish(Long importId, Snapshot terminal) {
+        Tracker tracker = trackers.get(importId);
+        if (tracker == null) {
+            return;
+        }
+        tracker.state.set(terminal);
+        schedule(tracker, 0);
+        if (!tracker.finished.compareAndSet(false, true)) {
+            return;
+        }
+        finishedOrder.add(tracker);
+        try {
+            sender.schedule(() -> {
+                finishedOrder.remove(tracker);
+                if (trackers.remove(importId, tracker)) {
+                    expiredEvictions.increment();
+                }
+            }, retentionMs, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            metrics.recordProgressFailure("schedule");
+        }
+    }
+
+    private synchronized void evictOldest() {
+        while (trackers.size() >= maxEntries) {
+            Tracker oldest = finishedOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (trackers.remove(oldest.importId, oldest)) {
+                capacityEvictions.increment();
+            }
+        }
+    }
+
+    private void schedule(Tracker tracker, long delayNanos) {
+        try {
+            sender.schedule(() -> send(tracker), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            tracker.scheduled.set(false);
+            metrics.recordProgressFailure("schedule");
+        }
+    }
+
+    private void send(Tracker tracker) {
+        tracker.scheduled.set(false);
+        Snapshot snapshot = tracker.state.get();
+        if (snapshot == tracker.lastSent) {
+            return;
+        }
+
+        tracker.lastSent = snapshot;
+        tracker.lastSentAt = System.nanoTime();
+        tracker.lastSentProgress = snapshot.progress();
+        long start = System.nanoTime();
+        try {
+            notificationService.notifyImportProgress(tracker.toDTO(snapshot));
+        } catch (Exception e) {
+            metrics.recordProgressFailure("send");
+        } finally {
+            metrics.recordStage(ImportMetrics.Stage.PROGRESS, start);
+        }
+    }
+
+    private record Snapshot(String status, int processed, int total, int successful, int failed, int progress,
+                            String errorMessage, Integer queuePosition) {
+
+        static final Snapshot EMPTY = new Snapshot(QUEUED, 0, 0, 0, 0, 0, null, null);
+
+        boolean isTerminal() {
+            return COMPLETED.equals(status) || FAILED.equals(status) || CANCELLED.equals(status);
+        }
+
+        Snapshot withStatus(String status, Integer queuePosition) {
+            return new Snapshot(status, processed, total, successful, failed, progress, errorMessage, queuePosition);
+        }
+    }
+
+    private static class Tracker {
+        private final Long importId;
+        private final String fileName;
+        private final AtomicReference<Snapshot> state = new AtomicReference<>(Snapshot.EMPTY);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile long lastSentAt = System.nanoTime();
+        private volatile int lastSentProgress;
+        private Snapshot lastSent;
+
+        private Tracker(Long importId, String fileName) {
+            this.importId = importId;
+            this.fileName = fileName;
+        }
+
+        private ImportProgressDTO toDTO(Snapshot snapshot) {
+            ImportProgressDTO dto = new ImportProgressDTO();
+            dto.setImportId(importId);
+            dto.setFileName(fileName);
+            dto.setCurrentProgress(snapshot.progress());
+            dto.setTotalRecords(snapshot.total());
+            dto.setProcessedRecords(snapshot.processed());
+            dto.setSuccessfulRecords(snapshot.successful());
+            dto.setFailedRecords(snapshot.failed());
+            dto.setStatus(snapshot.status());
+            dto.setErrorMessage(snapshot.errorMessage());
+            dto.setQueuePosition(snapshot.queuePosition());
+            return dto;
+        }
+    }
+}
\ No newline at end of file
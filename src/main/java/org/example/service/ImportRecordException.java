@@ -0,0 +1,23 @@
+package org.example.service;
+
+public class ImportRecordException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int lineNumber;
+    private final String reason;
+
+    public ImportRecordException(String message, int lineNumber, String reason, Throwable cause) {
+        super(message, cause);
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ImportRecordReader extends Closeable {
+
+    HumanBeingDTO next() throws IOException;
+
+    int skip(int records) throws IOException;
+
+    int getLineNumber();
+}
\ No newline at end of file
@@ -0,0 +1,325 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ImportScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportScheduler.class);
+
+    public enum JobState {
+        QUEUED,
+        RUNNING,
+        PAUSED,
+        CANCELLED
+    }
+
+    @Autowired
+    private ImportProgressPublisher progressPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${import.workers:5}")
+    private int workers;
+
+    private final Deque<Job> adminQueue = new ArrayDeque<>();
+    private final LinkedHashMap<String, Deque<Job>> userQueues = new LinkedHashMap<>();
+    private final Map<Long, Job> jobs = new ConcurrentHashMap<>();
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean shutdown;
+
+    @PostConstruct
+    void startWorkers() {
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            Thread thread = new Thread(this::runWorker, "import-worker-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+            workerThreads.add(thread);
+        }
+
+        Gauge.builder("import.queue.depth", this, ImportScheduler::queueDepth)
+                .description("Imports waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("import.jobs.active", this, scheduler -> scheduler.countJobs(JobState.RUNNING))
+                .description("Imports currently running")
+                .register(meterRegistry);
+        Gauge.builder("import.jobs.paused", this, scheduler -> scheduler.countJobs(JobState.PAUSED))
+                .description("Imports currently paused")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        shutdown = true;
+        workerThreads.forEach(Thread::interrupt);
+    }
+
+    public void submit(Long importId, String userName, boolean admin, Runnable task) {
+        Job job = new Job(importId, userName, task);
+        jobs.put(importId, job);
+        synchronized (this) {
+            if (admin) {
+                adminQueue.addLast(job);
+            } else {
+                userQueues.computeIfAbsent(userName, key -> new ArrayDeque<>()).addLast(job);
+            }
+            publishQueuePositions();
+            notifyAll();
+        }
+    }
+
+    public void attach(Long importId, String userName) {
+        Job job = new Job(importId, userName, null);
+        job.state = JobState.RUNNING;
+        jobs.put(importId, job);
+    }
+
+    public void detach(Long importId) {
+        Job job = jobs.remove(importId);
+        if (job != null) {
+            job.stopped.countDown();
+        }
+    }
+
+    public boolean pause(Long importId) {
+        Job job = jobs.get(importId);
+        if (job == null) {
+            return false;
+        }
+        synchronized (job) {
+            if (job.state != JobState.RUNNING) {
+                return false;
+            }
+            job.state = JobState.PAUSED;
+            return true;
+        }
+    }
+
+    public boolean resume(Long importId) {
+        Job job = jobs.get(importId);
+        if (job == null) {
+            return false;
+        }
+        synchronized (job) {
+            if (job.state != JobState.PAUSED) {
+                return false;
+            }
+            job.state = JobState.RUNNING;
+            job.notifyAll();
+            return true;
+        }
+    }
+
+    public JobState cancel(Long importId) {
+        Job job = jobs.get(importId);
+        if (job == null) {
+            return null;
+        }
+
+        JobState previous;
+        synchronized (job) {
+            previous = job.state;
+            if (previous == JobState.CANCELLED) {
+                return null;
+            }
+            job.state = JobState.CANCELLED;
+            job.notifyAll();
+            if (job.worker != null) {
+                job.worker.interrupt();
+            }
+        }
+
+        if (previous == JobState.QUEUED) {
+            synchronized (this) {
+                if (!adminQueue.remove(job)) {
+                    Deque<Job> queue = userQueues.get(job.userName);
+                    if (queue != null && queue.remove(job) && queue.isEmpty()) {
+                        userQueues.remove(job.userName);
+                    }
+                }
+                publishQueuePositions();
+            }
+            jobs.remove(importId);
+        }
+        return previous;
+    }
+
+    public boolean awaitStopped(Long importId, long timeoutMs) {
+        Job job = jobs.get(importId);
+        if (job == null) {
+            return true;
+        }
+        try {
+            return job.stopped.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void checkpoint(Long importId) {
+        Job job = jobs.get(importId);
+        if (job == null) {
+            return;
+        }
+        synchronized (job) {
+            while (job.state == JobState.PAUSED) {
+                try {
+                    job.wait();
+                } catch (InterruptedException e) {
+                    job.state = JobState.CANCELLED;
+                }
+            }
+        }
+        throwIfCancelled(importId);
+    }
+
+    public void throwIfCancelled(Long importId) {
+        Job job = jobs.get(importId);
+        if (job != null && job.state == JobState.CANCELLED) {
+            Thread.interrupted();
+            throw new CancellationException("Import was cancelled");
+        }
+    }
+
+    private void runWorker() {
+        while (!shutdown) {
+            Job job;
+            try {
+                job = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                job.task.run();
+            } catch (CancellationException e) {
+                log.info("Import {} was cancelled", job.importId);
+            } catch (RuntimeException e) {
+                log.warn("Import {} failed", job.importId, e);
+            } finally {
+                synchronized (job) {
+                    job.worker = null;
+                }
+                Thread.interrupted();
+                jobs.remove(job.importId);
+                job.stopped.countDown();
+            }
+        }
+    }
+
+    private synchronized Job take() throws InterruptedException {
+        while (true) {
+            Job job = poll();
+            if (job != null) {
+                publishQueuePositions();
+                return job;
+            }
+            wait();
+        }
+    }
+
+    private Job poll() {
+        while (!adminQueue.isEmpty() || !userQueues.isEmpty()) {
+            Job job = adminQueue.pollFirst();
+            if (job == null) {
+                Iterator<Map.Entry<String, Deque<Job>>> iterator = userQueues.entrySet().iterator();
+                Map.Entry<String, Deque<Job>> next = iterator.next();
+                iterator.remove();
+                job = next.getValue().pollFirst();
+                if (!next.getValue().isEmpty()) {
+                    userQueues.put(next.getKey(), next.getValue());
+                }
+            }
+
+            synchronized (job) {
+                if (job.state == JobState.QUEUED) {
+                    job.state = JobState.RUNNING;
+                    job.worker = Thread.currentThread();
+                    return job;
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized int queueDepth() {
+        int depth = adminQueue.size();
+        for (Deque<Job> queue : userQueues.values()) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    private int countJobs(JobState state) {
+        int count = 0;
+        for (Job job : jobs.values()) {
+            if (job.state == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<Job> dispatchOrder() {
+        List<Job> order = new ArrayList<>(adminQueue);
+        List<Deque<Job>> queues = new ArrayList<>(userQueues.values());
+        List<Iterator<Job>> iterators = new ArrayList<>(queues.size());
+        queues.forEach(queue -> iterators.add(queue.iterator()));
+
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (Iterator<Job> iterator : iterators) {
+                if (iterator.hasNext()) {
+                    order.add(iterator.next());
+                    added = true;
+                }
+            }
+        }
+        return order;
+    }
+
+    private void publishQueuePositions() {
+        List<Job> order = dispatchOrder();
+        for (int i = 0; i < order.size(); i++) {
+            progressPublisher.queued(order.get(i).importId, i + 1);
+        }
+    }
+
+    private static class Job {
+        private final Long importId;
+        private final String userName;
+        private final Runnable task;
+        private final CountDownLatch stopped = new CountDownLatch(1);
+        private volatile JobState state = JobState.QUEUED;
+        private Thread worker;
+
+        private Job(Long importId, String userName, Runnable task) {
+            this.importId = importId;
+            this.userName = userName;
+            this.task = task;
+        }
+    }
+}
\ No newline at end of file
@@ -1,55 +1,140 @@
 package org.example.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.example.dto.*;
 import org.example.entity.*;
 import org.example.repository.*;
-import org.example.controller.WebSocketNotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Service
 public class ImportService {
 
+    private static final long IDENTICAL_IMPORT_POLL_MS = 200;
+
     @Autowired
-    private HumanBeingRepository humanBeingRepository;
+    private ImportHistoryRepository importHistoryRepository;
 
     @Autowired
-    private CarRepository carRepository;
+    private PlatformTransactionManager transactionManager;
 
     @Autowired
-    private CoordinatesRepository coordinatesRepository;
+    private DataSource dataSource;
 
     @Autowired
-    private ImportHistoryRepository importHistoryRepository;
+    private ImportBatchWriter batchWriter;
+
+    @Autowired
+    private CopyImportLoader copyImportLoader;
+
+    @Autowired
+    private ImportChunkValidator chunkValidator;
+
+    @Autowired
+    private ImportProgressPublisher progressPublisher;
+
+    @Autowired
+    private ImportScheduler importScheduler;
 
     @Autowired
-    private WebSocketNotificationService notificationService;
+    private UploadSpool uploadSpool;
+
+    @Autowired
+    private ImportInternRegistry internRegistry;
+
+    @Autowired
+    private ImportErrorReports errorReports;
+
+    @Autowired
+    private ImportMetrics metrics;
+
+    @Value("${import.default-mode:STREAMING}")
+    private ImportHistory.ImportMode defaultMode;
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${import.max-in-flight-rows:5000}")
+    private int maxInFlightRows;
+
+    @Value("${import.stream.idle-commit-interval-ms:250}")
+    private long idleCommitIntervalMs;
+
+    @Value("${import.parallelism:4}")
+    private int parallelism;
+
+    @Value("${import.cancel-wait-ms:5000}")
+    private long cancelWaitMs;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final ExecutorService executorService = Executors.newFixedThreadPool(5);
-    private final Map<Long, ImportProgressDTO> progressMap = new ConcurrentHashMap<>();
+    private final Map<String, CountDownLatch> importingHashes = new ConcurrentHashMap<>();
+    private Semaphore inFlightRows;
+    private Semaphore partitionSlots;
+    private ExecutorService partitionExecutor;
+
+    @PostConstruct
+    void initRowBudget() {
+        chunkSize = Math.max(1, Math.min(chunkSize, maxInFlightRows));
+        inFlightRows = new Semaphore(maxInFlightRows, true);
+
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : parallelism + 1;
+        parallelism = Math.max(1, Math.min(parallelism, poolSize - 1));
+        partitionSlots = new Semaphore(parallelism, true);
+        AtomicInteger partitionThreads = new AtomicInteger();
+        partitionExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "import-partition-" + partitionThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownPartitionExecutor() {
+        partitionExecutor.shutdownNow();
+    }
 
-    public ImportHistory createImportHistory(String fileName, String fileType, String userName, Boolean isAdmin) {
+    public ImportHistory createImportHistory(String fileName, String fileType, String userName, Boolean isAdmin,
+                                             ImportHistory.ImportMode importMode) {
         ImportHistory history = new ImportHistory();
         history.setFileName(fileName);
         history.setFileType(fileType);
-        history.setStatus(ImportHistory.ImportStatus.IN_PROGRESS);
+        history.setStatus(ImportHistory.ImportStatus.QUEUED);
         history.setUserName(userName);
         history.setIsAdmin(isAdmin);
+        history.setImportMode(importMode);
         history.setStartTime(new Date());
         history.setCurrentProgress(0);
         history.setTotalRecords(0);
@@ -58,372 +143,686 @@ public class ImportService {
 
         history = importHistoryRepository.save(history);
 
-        ImportProgressDTO dto = new ImportProgressDTO();
-        dto.setImportId(history.getId());
-        dto.setFileName(history.getFileName());
-        dto.setCurrentProgress(0);
-        dto.setTotalRecords(0);
-        dto.setProcessedRecords(0);
-        dto.setSuccessfulRecords(0);
-        dto.setFailedRecords(0);
-        dto.setStatus("IN_PROGRESS");
-        dto.setErrorMessage(null);
-
-        progressMap.put(history.getId(), dto);
+        progressPublisher.start(history.getId(), history.getFileName());
 
         return history;
     }
 
-    public ImportHistory importFileAsync(MultipartFile file, String userName, Boolean isAdmin) {
+    public ImportHistory importFileAsync(MultipartFile file, String userName, Boolean isAdmin,
+                                         ImportHistory.ImportMode mode) {
         String fileName = file.getOriginalFilename();
-        String fileType = fileName != null && fileName.toLowerCase().endsWith(".json") ? "JSON" : "CSV";
+        String fileType = isJsonFile(fileName) ? "JSON" : "CSV";
+        ImportHistory.ImportMode importMode = mode != null ? mode : defaultMode;
 
-        ImportHistory history = createImportHistory(fileName != null ? fileName : "unknown", fileType, userName, isAdmin);
-        final Long historyId = history.getId();
+        ImportHistory history = createImportHistory(fileName != null ? fileName : "unknown", fileType, userName, isAdmin,
+                importMode);
+        UploadSpool.Upload upload = spoolUpload(file, history.getId());
+        history.setContentHash(upload.sha256());
+        history = importHistoryRepository.save(history);
+        history = describeCompressedUpload(history, upload.file(), file.getSize());
 
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                byte[] fileBytes = file.getBytes();
-                MultipartFile tempFile = new ByteArrayMultipartFile(
-                        fileBytes, file.getName(), fileName, file.getContentType() != null ? file.getContentType() : "application/octet-stream"
-                );
-
-                return processImport(tempFile, history);
-            } catch (Exception e) {
-                updateHistoryError(historyId, e.getMessage());
-                throw new RuntimeException(e);
-            }
-        }, executorService);
+        ImportHistory previous = findImportedDuplicate(history);
+        if (previous != null) {
+            uploadSpool.delete(history.getId());
+            return completeAsDuplicate(history, previous);
+        }
+        submitSpooledImport(upload.file(), history);
+
+        return history;
+    }
+
+    private ImportHistory findImportedDuplicate(ImportHistory history) {
+        if (history.getContentHash() == null) {
+            return null;
+        }
+        List<ImportHistory> previous = importHistoryRepository.findByContentHash(history.getContentHash(),
+                ImportHistory.ImportStatus.COMPLETED, history.getId(),
+                importHistoryRepository.currentMutationGeneration(), PageRequest.of(0, 1));
+        return previous.isEmpty() ? null : previous.get(0);
+    }
 
+    private ImportHistory completeAsDuplicate(ImportHistory history, ImportHistory previous) {
+        history.setStatus(ImportHistory.ImportStatus.COMPLETED);
+        history.setDuplicateOf(previous.getId());
+        history.setMutationGeneration(previous.getMutationGeneration());
+        history.setTotalRecords(previous.getTotalRecords());
+        history.setSuccessfulRecords(previous.getSuccessfulRecords());
+        history.setFailedRecords(previous.getFailedRecords());
+        history.setUncompressedSize(previous.getUncompressedSize());
+        history.setCurrentProgress(100);
+        history.setEndTime(new Date());
+        history = importHistoryRepository.save(history);
+
+        int total = previous.getTotalRecords() != null ? previous.getTotalRecords() : 0;
+        int successful = previous.getSuccessfulRecords() != null ? previous.getSuccessfulRecords() : 0;
+        int failed = previous.getFailedRecords() != null ? previous.getFailedRecords() : 0;
+        progressPublisher.complete(history.getId(), total, total, successful, failed);
         return history;
     }
 
-    private ImportHistory processImport(MultipartFile file, ImportHistory history) {
+    public ImportHistory importStream(InputStream body, String fileName, String userName, Boolean isAdmin) {
+        ImportHistory history = createImportHistory(fileName, "JSON", userName, isAdmin,
+                ImportHistory.ImportMode.STREAMING);
         Long historyId = history.getId();
-        String fileName = history.getFileName();
+        importHistoryRepository.updateStatusIf(historyId, ImportHistory.ImportStatus.QUEUED,
+                ImportHistory.ImportStatus.IN_PROGRESS);
+        progressPublisher.status(historyId, ImportHistory.ImportStatus.IN_PROGRESS.name());
+        importScheduler.attach(historyId, userName);
 
+        long start = System.nanoTime();
+        String outcome = "failed";
         try {
-            List<HumanBeingDTO> dtos;
-            if ("JSON".equals(history.getFileType())) {
-                dtos = parseJSON(file);
-            } else {
-                dtos = parseCSV(file);
+            ImportInternCache internCache = new ImportInternCache(internRegistry);
+            int imported;
+            long bytesRead;
+            try (CountingInputStream input = new CountingInputStream(body)) {
+                imported = commitArrivingRecords(input, historyId, internCache);
+                bytesRead = input.getCount();
             }
 
-            history.setTotalRecords(dtos.size());
-            importHistoryRepository.save(history);
-
-            importRecords(dtos, historyId, fileName);
-
             history = importHistoryRepository.findById(historyId).orElse(history);
+            history.setUncompressedSize(bytesRead);
+            applyInternStats(history, internCache);
             history.setStatus(ImportHistory.ImportStatus.COMPLETED);
+            history.setTotalRecords(imported);
+            history.setSuccessfulRecords(imported);
             history.setCurrentProgress(100);
             history.setEndTime(new Date());
             importHistoryRepository.save(history);
 
-            sendProgress(historyId, fileName, dtos.size(), dtos.size(),
-                    history.getSuccessfulRecords(), history.getFailedRecords(), "COMPLETED");
-
-            return history;
+            progressPublisher.complete(historyId, imported, imported, imported, 0);
+            outcome = "completed";
+        } catch (CancellationException e) {
+            markCancelled(historyId);
+            outcome = "cancelled";
         } catch (Exception e) {
             updateHistoryError(historyId, e.getMessage());
-            throw new RuntimeException("Import failed: " + e.getMessage(), e);
+        } finally {
+            importScheduler.detach(historyId);
+            metrics.recordImport(ImportHistory.ImportMode.STREAMING, outcome, start);
         }
+        return importHistoryRepository.findById(historyId).orElse(history);
     }
 
-    @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
-    public void importRecords(List<HumanBeingDTO> dtos, Long historyId, String fileName) {
-        int successful = 0;
-        int failed = 0;
+    private ImportHistory describeCompressedUpload(ImportHistory history, Path spoolFile, long compressedSize) {
+        UploadCompression compression = UploadCompression.of(history.getFileName());
+        if (compression == UploadCompression.NONE) {
+            return history;
+        }
 
-        for (int i = 0; i < dtos.size(); i++) {
-            HumanBeingDTO dto = dtos.get(i);
-            try {
-                validateDTO(dto);
-                createHumanBeing(dto);
-                successful++;
+        try {
+            String dataFileName = compression.dataFileName(history.getFileName(), spoolFile);
+            history.setFileType(isJsonFile(dataFileName) ? "JSON" : "CSV");
+        } catch (IOException e) {
+            String message = "Unsupported compressed upload: " + e.getMessage();
+            updateHistoryError(history.getId(), message);
+            uploadSpool.delete(history.getId());
+            throw new IllegalArgumentException(message, e);
+        }
+        history.setCompressedSize(compressedSize);
+        return importHistoryRepository.save(history);
+    }
 
-                int progress = (int) ((i + 1) * 100.0 / dtos.size());
+    public ImportHistory pauseImport(Long importId) {
+        ImportHistory history = findHistory(importId);
+        if (!importScheduler.pause(importId)) {
+            throw new IllegalStateException("Only running imports can be paused");
+        }
 
-                if (progress < 100) {
-                    updateProgressAsync(historyId, fileName, i + 1, dtos.size(), successful, failed, progress);
-                }
+        importHistoryRepository.updateStatusIf(importId, ImportHistory.ImportStatus.IN_PROGRESS,
+                ImportHistory.ImportStatus.PAUSED);
+        progressPublisher.status(importId, ImportHistory.ImportStatus.PAUSED.name());
+        history.setStatus(ImportHistory.ImportStatus.PAUSED);
+        return history;
+    }
 
-                Thread.sleep(5);
-            } catch (Exception e) {
-                failed++;
-                int progress = (int) ((i + 1) * 100.0 / dtos.size());
-                if (progress < 100) {
-                    updateProgressAsync(historyId, fileName, i + 1, dtos.size(), successful, failed, progress);
-                }
-                throw new RuntimeException("Error importing record: " + e.getMessage(), e);
-            }
+    public ImportHistory cancelImport(Long importId) {
+        if (!importHistoryRepository.existsById(importId)) {
+            throw new IllegalArgumentException("Import not found: " + importId);
+        }
+        ImportScheduler.JobState previous = importScheduler.cancel(importId);
+        if (previous == null) {
+            throw new IllegalStateException("Only queued, running or paused imports can be cancelled");
         }
 
-        ImportHistory history = importHistoryRepository.findById(historyId).orElse(null);
-        if (history != null) {
-            history.setSuccessfulRecords(successful);
-            history.setFailedRecords(failed);
-            importHistoryRepository.save(history);
+        if (previous == ImportScheduler.JobState.QUEUED) {
+            markCancelled(importId);
+            uploadSpool.delete(importId);
+        } else {
+            importScheduler.awaitStopped(importId, cancelWaitMs);
         }
+        return findHistory(importId);
     }
 
-    private void validateDTO(HumanBeingDTO dto) {
-        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("Name cannot be null or empty");
-        }
+    private ImportHistory findHistory(Long importId) {
+        return importHistoryRepository.findById(importId)
+                .orElseThrow(() -> new IllegalArgumentException("Import not found: " + importId));
+    }
 
-        if (dto.getCoordinates() == null) {
-            throw new IllegalArgumentException("Coordinates cannot be null");
-        }
+    private void submitImport(ImportHistory history, Consumer<ImportHistory> work) {
+        Long historyId = history.getId();
+        importScheduler.submit(historyId, history.getUserName(), Boolean.TRUE.equals(history.getIsAdmin()), () -> {
+            if (importHistoryRepository.updateStatusIf(historyId, ImportHistory.ImportStatus.QUEUED,
+                    ImportHistory.ImportStatus.IN_PROGRESS) == 0) {
+                return;
+            }
+            progressPublisher.status(historyId, ImportHistory.ImportStatus.IN_PROGRESS.name());
+            importHistoryRepository.updateMutationGeneration(historyId,
+                    importHistoryRepository.currentMutationGeneration());
+            long start = System.nanoTime();
+            String outcome = "failed";
+            try {
+                importHistoryRepository.findById(historyId).ifPresent(work);
+                outcome = "completed";
+            } catch (CancellationException e) {
+                markCancelled(historyId);
+                outcome = "cancelled";
+                throw e;
+            } finally {
+                metrics.recordImport(history.getImportMode(), outcome, start);
+            }
+        });
+    }
 
-        if (dto.getCoordinates().getX() == null || dto.getCoordinates().getY() == null) {
-            throw new IllegalArgumentException("Coordinates x and y cannot be null");
+    private boolean isJsonFile(String fileName) {
+        if (fileName == null) {
+            return false;
         }
+        String lower = fileName.toLowerCase();
+        return lower.endsWith(".json") || lower.endsWith(".ndjson");
+    }
 
-        if (dto.getCoordinates().getX() > 112) {
-            throw new IllegalArgumentException("X coordinate cannot exceed 112");
-        }
+    private ImportRecordReader openReader(String fileType, InputStream input) throws IOException {
+        return metrics.timed("JSON".equals(fileType) ? new JsonRecordReader(input, objectMapper)
+                : new CsvRecordReader(input));
+    }
 
-        if (dto.getCoordinates().getY() <= -926) {
-            throw new IllegalArgumentException("Y coordinate must be greater than -926");
+    public ImportHistory resumeImport(Long importId) {
+        ImportHistory history = findHistory(importId);
+        if (importScheduler.resume(importId)) {
+            importHistoryRepository.updateStatusIf(importId, ImportHistory.ImportStatus.PAUSED,
+                    ImportHistory.ImportStatus.IN_PROGRESS);
+            progressPublisher.status(importId, ImportHistory.ImportStatus.IN_PROGRESS.name());
+            history.setStatus(ImportHistory.ImportStatus.IN_PROGRESS);
+            return history;
         }
 
-        if (dto.getImpactSpeed() == null) {
-            throw new IllegalArgumentException("Impact speed cannot be null");
+        if (history.getImportMode() != ImportHistory.ImportMode.CHUNKED) {
+            throw new IllegalStateException("Only paused imports or failed CHUNKED imports can be resumed");
         }
 
-        if (dto.getImpactSpeed() > 345) {
-            throw new IllegalArgumentException("Impact speed cannot exceed 345");
+        if (!uploadSpool.exists(importId)) {
+            throw new IllegalStateException("Uploaded file for import " + importId + " is no longer available");
         }
-
-        if (dto.getMinutesOfWaiting() == null) {
-            throw new IllegalArgumentException("Minutes of waiting cannot be null");
+        if (importHistoryRepository.updateStatusIf(importId, ImportHistory.ImportStatus.FAILED,
+                ImportHistory.ImportStatus.QUEUED) == 0) {
+            throw new IllegalStateException("Only paused imports or failed CHUNKED imports can be resumed");
         }
 
-        if (dto.getMood() == null) {
-            throw new IllegalArgumentException("Mood cannot be null");
-        }
+        ImportHistory resumed = importHistoryRepository.findById(importId).orElseThrow();
+        progressPublisher.start(importId, resumed.getFileName());
+        submitSpooledImport(uploadSpool.path(importId), resumed);
+        return resumed;
+    }
 
-        if (dto.getRealHero() == null) {
-            throw new IllegalArgumentException("Real hero cannot be null");
-        }
+    private void submitSpooledImport(Path spoolFile, ImportHistory history) {
+        Long historyId = history.getId();
+        submitImport(history, current -> {
+            CountDownLatch importing = awaitIdenticalImports(current.getContentHash(), historyId);
+            try {
+                ImportHistory previous = findImportedDuplicate(current);
+                if (previous != null) {
+                    completeAsDuplicate(current, previous);
+                    uploadSpool.delete(historyId);
+                    return;
+                }
+                processSpooledImport(spoolFile, current);
+                uploadSpool.delete(historyId);
+            } catch (RuntimeException e) {
+                if (current.getImportMode() != ImportHistory.ImportMode.CHUNKED || e instanceof CancellationException) {
+                    uploadSpool.delete(historyId);
+                }
+                errorReports.delete(historyId);
+                throw e;
+            } finally {
+                if (importing != null) {
+                    importingHashes.remove(current.getContentHash(), importing);
+                    importing.countDown();
+                }
+            }
+        });
+    }
 
-        if (dto.getCar() == null) {
-            throw new IllegalArgumentException("Car cannot be null");
+    private CountDownLatch awaitIdenticalImports(String contentHash, Long historyId) {
+        if (contentHash == null) {
+            return null;
         }
-
-        List<HumanBeing> existing = humanBeingRepository.findByNameAndCoordinates(
-                dto.getName(), dto.getCoordinates().getX(), dto.getCoordinates().getY());
-        if (!existing.isEmpty()) {
-            throw new IllegalArgumentException("HumanBeing with name '" + dto.getName() +
-                    "' and coordinates (" + dto.getCoordinates().getX() + ", " + dto.getCoordinates().getY() + ") already exists");
+        CountDownLatch importing = new CountDownLatch(1);
+        CountDownLatch other;
+        while ((other = importingHashes.putIfAbsent(contentHash, importing)) != null) {
+            try {
+                while (!other.await(IDENTICAL_IMPORT_POLL_MS, TimeUnit.MILLISECONDS)) {
+                    importScheduler.checkpoint(historyId);
+                }
+            } catch (InterruptedException e) {
+                throw new CancellationException("Import was cancelled");
+            }
         }
+        return importing;
+    }
 
-        if (Boolean.TRUE.equals(dto.getRealHero())) {
-            List<HumanBeing> existingHero = humanBeingRepository.findByHeroSpeedAndWaiting(
-                    dto.getImpactSpeed(), dto.getMinutesOfWaiting());
-            if (!existingHero.isEmpty()) {
-                throw new IllegalArgumentException("Hero with impactSpeed " + dto.getImpactSpeed() +
-                        " and minutesOfWaiting " + dto.getMinutesOfWaiting() + " already exists");
-            }
+    private UploadSpool.Upload spoolUpload(MultipartFile file, Long historyId) {
+        try {
+            return uploadSpool.store(file, historyId);
+        } catch (IOException e) {
+            updateHistoryError(historyId, "Failed to store upload: " + e.getMessage());
+            throw new UncheckedIOException(e);
         }
     }
 
-    private void createHumanBeing(HumanBeingDTO dto) {
-        Coordinates coords = new Coordinates();
-        coords.setX(dto.getCoordinates().getX());
-        coords.setY(dto.getCoordinates().getY());
+    private ImportHistory processSpooledImport(Path spoolFile, ImportHistory history) {
+        Long historyId = history.getId();
 
-        Car car = new Car();
-        car.setName(dto.getCar().getName());
+        try {
+            long fileSize = Files.size(spoolFile);
+            UploadCompression compression = UploadCompression.of(history.getFileName());
+            ImportInternCache internCache = new ImportInternCache(internRegistry);
+            int imported;
+            int rejected;
+            long uncompressedSize;
+            try (CountingInputStream input = new CountingInputStream(uploadSpool.open(spoolFile));
+                 CountingInputStream expanded = new CountingInputStream(compression.decompress(input));
+                 ImportRecordReader reader = openReader(history.getFileType(), expanded);
+                 RejectedRowWriter rejectedRows = errorReports.open(historyId)) {
+                imported = switch (history.getImportMode()) {
+                    case COPY -> copyRecords(reader, input, fileSize, historyId, internCache);
+                    case CHUNKED -> commitChunks(reader, input, fileSize, historyId,
+                            skipCommittedRecords(reader, history), internCache);
+                    case PARTIAL -> commitValidRows(reader, input, fileSize, historyId, internCache, rejectedRows);
+                    case PARALLEL -> "CSV".equals(history.getFileType()) && compression == UploadCompression.NONE
+                            ? importPartitions(spoolFile, fileSize, historyId, internCache)
+                            : copyRecords(reader, input, fileSize, historyId, internCache);
+                    default -> commitChunks(reader, input, fileSize, historyId, 0, internCache);
+                };
+                uncompressedSize = compression == UploadCompression.NONE ? fileSize : expanded.getCount();
+                rejected = rejectedRows.getCount();
+            }
 
-        HumanBeing entity = new HumanBeing();
-        entity.setName(dto.getName());
-        entity.setCoordinates(coords);
-        entity.setCar(car);
-        entity.setRealHero(dto.getRealHero());
-        entity.setHasToothpick(dto.getHasToothpick());
-        entity.setMood(dto.getMood());
-        entity.setImpactSpeed(dto.getImpactSpeed());
-        entity.setMinutesOfWaiting(dto.getMinutesOfWaiting());
-        entity.setWeaponType(dto.getWeaponType());
-        entity.setCreationDate(new Date());
+            history = importHistoryRepository.findById(historyId).orElse(history);
+            history.setUncompressedSize(uncompressedSize);
+            applyInternStats(history, internCache);
+            history.setStatus(ImportHistory.ImportStatus.COMPLETED);
+            history.setTotalRecords(imported + rejected);
+            history.setSuccessfulRecords(imported);
+            history.setFailedRecords(rejected);
+            history.setErrorReport(rejected > 0 ? errorReports.fileName(historyId) : null);
+            history.setCurrentProgress(100);
+            history.setEndTime(new Date());
+            importHistoryRepository.save(history);
 
-        humanBeingRepository.save(entity);
-    }
+            metrics.recordRejected(rejected);
+            progressPublisher.complete(historyId, imported + rejected, imported + rejected, imported, rejected);
 
-    private List<HumanBeingDTO> parseJSON(MultipartFile file) throws Exception {
-        try {
-            String content = new String(file.getBytes(), StandardCharsets.UTF_8);
-            HumanBeingDTO[] dtos = objectMapper.readValue(content, HumanBeingDTO[].class);
-            return Arrays.asList(dtos);
+            return history;
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid JSON format: " + e.getMessage(), e);
+            importScheduler.throwIfCancelled(historyId);
+            updateHistoryError(historyId, e.getMessage());
+            throw new RuntimeException("Import failed: " + e.getMessage(), e);
         }
     }
 
-    private List<HumanBeingDTO> parseCSV(MultipartFile file) throws Exception {
-        List<HumanBeingDTO> dtos = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                return dtos;
-            }
+    private int skipCommittedRecords(ImportRecordReader reader, ImportHistory history) throws IOException {
+        int committed = history.getCheckpointRecords() != null ? history.getCheckpointRecords() : 0;
+        if (reader.skip(committed) < committed) {
+            throw new IllegalStateException("Uploaded file has fewer records than the checkpoint (" + committed + ")");
+        }
+        return committed;
+    }
 
-            String[] headers = headerLine.split(",");
-            Map<String, Integer> headerMap = new HashMap<>();
-            for (int i = 0; i < headers.length; i++) {
-                headerMap.put(headers[i].trim(), i);
-            }
+    private int commitChunks(ImportRecordReader reader, CountingInputStream input, long fileSize,
+                             Long historyId, int committed, ImportInternCache internCache) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
 
-            String line;
-            int lineNum = 1;
-            while ((line = reader.readLine()) != null) {
-                lineNum++;
-                if (line.trim().isEmpty()) continue;
+        ImportChunk chunk = new ImportChunk(chunkSize);
+        ImportKeySet fileKeys = new ImportKeySet();
 
-                try {
-                    String[] values = parseCSVLine(line);
-                    HumanBeingDTO dto = parseCSVRow(values, headerMap);
-                    dtos.add(dto);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Error parsing CSV line " + lineNum + ": " + e.getMessage(), e);
+        while (true) {
+            importScheduler.checkpoint(historyId);
+            inFlightRows.acquireUninterruptibly(chunkSize);
+            try {
+                readChunk(reader, chunk);
+                if (chunk.isEmpty()) {
+                    break;
                 }
+
+                int checkpoint = committed + chunk.size();
+                transactionTemplate.executeWithoutResult(status -> {
+                    validateChunk(chunk, fileKeys);
+                    batchWriter.write(chunk.records(), internCache);
+                    importHistoryRepository.updateCheckpoint(historyId, checkpoint);
+                });
+                committed = checkpoint;
+            } finally {
+                chunk.clear();
+                inFlightRows.release(chunkSize);
             }
+
+            reportStreamProgress(historyId, committed, input.getCount(), fileSize);
         }
-        return dtos;
+        return committed;
     }
 
-    private String[] parseCSVLine(String line) {
-        List<String> result = new ArrayList<>();
-        boolean inQuotes = false;
-        StringBuilder current = new StringBuilder();
+    private int commitArrivingRecords(InputStream body, Long historyId, ImportInternCache internCache)
+            throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        ImportChunk chunk = new ImportChunk(chunkSize);
+        ImportKeySet fileKeys = new ImportKeySet();
+        int[] committed = new int[1];
 
-        for (char c : line.toCharArray()) {
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                result.add(current.toString().trim());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
+        Runnable commitPending = () -> {
+            if (!chunk.isEmpty()) {
+                int checkpoint = committed[0] + chunk.size();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        validateChunk(chunk, fileKeys);
+                        batchWriter.write(chunk.records(), internCache);
+                        importHistoryRepository.updateCheckpoint(historyId, checkpoint);
+                    });
+                    committed[0] = checkpoint;
+                } finally {
+                    chunk.clear();
+                    inFlightRows.release(chunkSize);
+                }
+                progressPublisher.update(historyId, committed[0], 0, committed[0], 0);
+            }
+            importScheduler.checkpoint(historyId);
+        };
+
+        try (ImportRecordReader reader = new JsonRecordReader(
+                new IdleAwareInputStream(body, commitPending, idleCommitIntervalMs), objectMapper)) {
+            HumanBeingDTO dto;
+            while ((dto = reader.next()) != null) {
+                if (chunk.isEmpty()) {
+                    inFlightRows.acquireUninterruptibly(chunkSize);
+                }
+                chunk.add(dto, reader.getLineNumber());
+                if (chunk.size() >= chunkSize) {
+                    commitPending.run();
+                }
+            }
+            commitPending.run();
+        } catch (IdleAwareInputStream.IdleCallbackException e) {
+            throw e.getCause();
+        } finally {
+            if (!chunk.isEmpty()) {
+                chunk.clear();
+                inFlightRows.release(chunkSize);
             }
         }
-        result.add(current.toString().trim());
-        return result.toArray(new String[0]);
+        return committed[0];
     }
 
-    private HumanBeingDTO parseCSVRow(String[] values, Map<String, Integer> headerMap) throws Exception {
-        HumanBeingDTO dto = new HumanBeingDTO();
+    private int commitValidRows(ImportRecordReader reader, CountingInputStream input, long fileSize, Long historyId,
+                                ImportInternCache internCache, RejectedRowWriter rejectedRows) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
 
-        dto.setName(getCSVValue(values, headerMap, "name"));
+        ImportChunk chunk = new ImportChunk(chunkSize);
+        ImportKeySet fileKeys = new ImportKeySet();
+        int committed = 0;
 
-        CoordinatesDTO coords = new CoordinatesDTO();
-        coords.setX(Integer.parseInt(getCSVValue(values, headerMap, "coordinates.x", "x")));
-        coords.setY(Double.parseDouble(getCSVValue(values, headerMap, "coordinates.y", "y")));
-        dto.setCoordinates(coords);
+        while (true) {
+            importScheduler.checkpoint(historyId);
+            inFlightRows.acquireUninterruptibly(chunkSize);
+            try {
+                readValidChunk(reader, chunk, rejectedRows);
+                if (chunk.isEmpty()) {
+                    break;
+                }
 
-        dto.setRealHero(Boolean.parseBoolean(getCSVValue(values, headerMap, "realHero", "false")));
+                committed += writeValidRows(chunk, fileKeys, internCache, rejectedRows, transactionTemplate);
+            } finally {
+                chunk.clear();
+                inFlightRows.release(chunkSize);
+            }
 
-        String hasToothpick = getCSVValue(values, headerMap, "hasToothpick");
-        if (hasToothpick != null && !hasToothpick.isEmpty() && !hasToothpick.equalsIgnoreCase("null")) {
-            dto.setHasToothpick(Boolean.parseBoolean(hasToothpick));
+            reportStreamProgress(historyId, committed, rejectedRows.getCount(), input.getCount(), fileSize);
         }
+        return committed;
+    }
 
-        CarDTO car = new CarDTO();
-        String carName = getCSVValue(values, headerMap, "car.name", "carName");
-        car.setName(carName);
-        dto.setCar(car);
+    private void readValidChunk(ImportRecordReader reader, ImportChunk chunk, RejectedRowWriter rejectedRows) {
+        try {
+            while (chunk.size() < chunkSize) {
+                HumanBeingDTO dto;
+                try {
+                    dto = reader.next();
+                } catch (ImportRecordException e) {
+                    rejectedRows.reject(e.getLineNumber(), e.getReason());
+                    continue;
+                }
+                if (dto == null) {
+                    return;
+                }
+                chunk.add(dto, reader.getLineNumber());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        String moodStr = getCSVValue(values, headerMap, "mood");
-        if (moodStr == null || moodStr.isEmpty()) {
-            throw new IllegalArgumentException("Mood cannot be null");
+    private int writeValidRows(ImportChunk chunk, ImportKeySet fileKeys, ImportInternCache internCache,
+                               RejectedRowWriter rejectedRows, TransactionTemplate transactionTemplate) {
+        chunkValidator.validate(chunk, fileKeys);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.isRejected(i)) {
+                rejectedRows.reject(chunk.lineNumber(i), chunk.error(i));
+            }
         }
+
+        List<HumanBeingDTO> accepted = chunk.acceptedRecords();
         try {
-            dto.setMood(Mood.valueOf(moodStr));
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid mood value: " + moodStr + ". Valid values: SADNESS, CALM, RAGE");
+            transactionTemplate.executeWithoutResult(status -> batchWriter.write(accepted, internCache));
+            return accepted.size();
+        } catch (RuntimeException e) {
+            int written = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                if (chunk.isRejected(i)) {
+                    continue;
+                }
+                HumanBeingDTO dto = chunk.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> batchWriter.write(List.of(dto), internCache));
+                    written++;
+                } catch (RuntimeException rowError) {
+                    fileKeys.remove(dto);
+                    rejectedRows.reject(chunk.lineNumber(i),
+                            NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                }
+            }
+            return written;
         }
+    }
 
-        dto.setImpactSpeed(Float.parseFloat(getCSVValue(values, headerMap, "impactSpeed")));
+    private int importPartitions(Path spoolFile, long fileSize, Long historyId,
+                                 ImportInternCache internCache) throws Exception {
+        CsvPartitioner.Layout layout = CsvPartitioner.split(spoolFile, parallelism);
+        List<CsvPartitioner.Partition> partitions = layout.partitions();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
 
-        dto.setMinutesOfWaiting(Float.parseFloat(getCSVValue(values, headerMap, "minutesOfWaiting")));
+        ImportKeySet fileKeys = new ImportKeySet();
+        AtomicInteger processed = new AtomicInteger();
+        AtomicLong bytesRead = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
 
-        String weaponType = getCSVValue(values, headerMap, "weaponType");
-        if (weaponType != null && !weaponType.isEmpty() && !weaponType.equalsIgnoreCase("null")) {
+        try {
+            partitionSlots.acquireUninterruptibly(partitions.size());
             try {
-                dto.setWeaponType(WeaponType.valueOf(weaponType));
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Invalid weaponType value: " + weaponType +
-                        ". Valid values: HAMMER, RIFLE, MACHINE_GUN, BAT");
+                List<Future<?>> workers = new ArrayList<>(partitions.size());
+                for (CsvPartitioner.Partition partition : partitions) {
+                    workers.add(partitionExecutor.submit(() -> stagePartition(spoolFile, layout.header(), partition,
+                            fileKeys, processed, bytesRead, fileSize, historyId, failure)));
+                }
+                for (Future<?> worker : workers) {
+                    while (true) {
+                        try {
+                            worker.get();
+                            break;
+                        } catch (InterruptedException e) {
+                            failure.compareAndSet(null, new CancellationException("Import was cancelled"));
+                        } catch (ExecutionException e) {
+                            failure.compareAndSet(null, new IllegalStateException(e.getCause()));
+                            break;
+                        }
+                    }
+                }
+            } finally {
+                partitionSlots.release(partitions.size());
             }
-        }
 
-        return dto;
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            importScheduler.checkpoint(historyId);
+            return copyImportLoader.finishStaged(historyId, internCache);
+        } catch (Exception e) {
+            copyImportLoader.discardStaged(historyId);
+            throw e;
+        }
     }
 
-    private String getCSVValue(String[] values, Map<String, Integer> headerMap, String key) {
-        return getCSVValue(values, headerMap, key, null);
-    }
+    private void stagePartition(Path spoolFile, String header, CsvPartitioner.Partition partition,
+                                ImportKeySet fileKeys, AtomicInteger processed, AtomicLong bytesRead, long fileSize,
+                                Long historyId, AtomicReference<RuntimeException> failure) {
+        try (CountingInputStream input = new CountingInputStream(
+                uploadSpool.open(spoolFile, partition.start(), partition.end()));
+             ImportRecordReader reader = metrics.timed(new CsvRecordReader(input, header, partition.linesBefore()))) {
+            ImportChunk chunk = new ImportChunk(chunkSize);
+            long counted = 0;
+
+            while (failure.get() == null) {
+                importScheduler.checkpoint(historyId);
+                inFlightRows.acquireUninterruptibly(chunkSize);
+                try {
+                    readChunk(reader, chunk);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+
+                    validateChunk(chunk, fileKeys);
+                    copyImportLoader.stage(historyId, chunk);
+                    processed.addAndGet(chunk.size());
+                } finally {
+                    chunk.clear();
+                    inFlightRows.release(chunkSize);
+                }
 
-    private String getCSVValue(String[] values, Map<String, Integer> headerMap, String key, String altKey) {
-        Integer index = headerMap.get(key);
-        if (index == null && altKey != null) {
-            index = headerMap.get(altKey);
-        }
-        if (index != null && index < values.length) {
-            String value = values[index].trim();
-            if (value.startsWith("\"") && value.endsWith("\"")) {
-                value = value.substring(1, value.length() - 1);
+                long total = bytesRead.addAndGet(input.getCount() - counted);
+                counted = input.getCount();
+                reportStreamProgress(historyId, processed.get(), total, fileSize);
             }
-            return value.isEmpty() ? null : value;
+        } catch (IOException | SQLException e) {
+            failure.compareAndSet(null, new IllegalStateException(e));
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } catch (Error e) {
+            failure.compareAndSet(null, new IllegalStateException(e));
         }
-        return null;
     }
 
-    private void updateProgressAsync(Long historyId, String fileName, int processed, int total,
-                                     int successful, int failed, int progress) {
+    private int copyRecords(ImportRecordReader reader, CountingInputStream input, long fileSize,
+                            Long historyId, ImportInternCache internCache) throws Exception {
+        ImportChunk chunk = new ImportChunk(chunkSize);
+        ImportKeySet fileKeys = new ImportKeySet();
+        int staged = 0;
+
         try {
-            updateProgress(historyId, fileName, processed, total, successful, failed, progress);
+            while (true) {
+                importScheduler.checkpoint(historyId);
+                inFlightRows.acquireUninterruptibly(chunkSize);
+                try {
+                    readChunk(reader, chunk);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+
+                    validateChunk(chunk, fileKeys);
+                    copyImportLoader.stage(historyId, chunk);
+                    staged += chunk.size();
+                } finally {
+                    chunk.clear();
+                    inFlightRows.release(chunkSize);
+                }
+
+                reportStreamProgress(historyId, staged, input.getCount(), fileSize);
+            }
+            importScheduler.checkpoint(historyId);
+            return copyImportLoader.finishStaged(historyId, internCache);
         } catch (Exception e) {
+            copyImportLoader.discardStaged(historyId);
+            throw e;
         }
     }
 
-    private void updateProgress(Long historyId, String fileName, int processed, int total,
-                                int successful, int failed, int progress) {
+    private void reportStreamProgress(Long historyId, int processed, long bytesRead, long fileSize) {
+        reportStreamProgress(historyId, processed, 0, bytesRead, fileSize);
+    }
 
-        ImportProgressDTO current = progressMap.get(historyId);
-        if (current != null) {
-            String status = current.getStatus();
-            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
-                return;
+    private void reportStreamProgress(Long historyId, int successful, int failed, long bytesRead, long fileSize) {
+        int processed = successful + failed;
+        int estimatedTotal = (int) Math.max(processed, processed * fileSize / Math.max(1, bytesRead));
+        progressPublisher.update(historyId, processed, estimatedTotal, successful, failed);
+    }
+
+    private void readChunk(ImportRecordReader reader, ImportChunk chunk) {
+        try {
+            HumanBeingDTO dto;
+            while (chunk.size() < chunkSize && (dto = reader.next()) != null) {
+                chunk.add(dto, reader.getLineNumber());
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        if (progress >= 100) {
-            return;
-        }
+    private void validateChunk(ImportChunk chunk, ImportKeySet fileKeys) {
+        chunkValidator.validate(chunk, fileKeys);
 
-        sendProgress(historyId, fileName, processed, total, successful, failed, "IN_PROGRESS");
+        int rejected = chunk.firstRejected();
+        if (rejected >= 0) {
+            throw new IllegalArgumentException("Error importing record at line " + chunk.lineNumber(rejected) +
+                    ": " + chunk.error(rejected));
+        }
     }
 
-    private void sendProgress(Long historyId, String fileName, int processed, int total,
-                              int successful, int failed, String status) {
-        ImportProgressDTO progress = new ImportProgressDTO();
-        progress.setImportId(historyId);
-        progress.setFileName(fileName);
-        progress.setCurrentProgress(total > 0 ? (int) (processed * 100.0 / total) : 0);
-        progress.setTotalRecords(total);
-        progress.setProcessedRecords(processed);
-        progress.setSuccessfulRecords(successful);
-        progress.setFailedRecords(failed);
-        progress.setStatus(status);
+    private void applyInternStats(ImportHistory history, ImportInternCache internCache) {
+        history.setCarInternHits(internCache.getCarHits());
+        history.setCarInternMisses(internCache.getCarMisses());
+        history.setCoordinatesInternHits(internCache.getCoordinatesHits());
+        history.setCoordinatesInternMisses(internCache.getCoordinatesMisses());
+    }
 
-        progressMap.put(historyId, progress);
-        notificationService.notifyImportProgress(progress);
+    private void markCancelled(Long historyId) {
+        try {
+            importHistoryRepository.findById(historyId).ifPresent(history -> {
+                history.setStatus(ImportHistory.ImportStatus.CANCELLED);
+                history.setErrorMessage("Import was cancelled");
+                history.setEndTime(new Date());
+                importHistoryRepository.save(history);
+            });
+            progressPublisher.cancel(historyId);
+        } catch (Exception e) {
+        }
     }
 
     private void updateHistoryError(Long historyId, String errorMessage) {
@@ -435,20 +834,14 @@ public class ImportService {
                 history.setEndTime(new Date());
                 importHistoryRepository.save(history);
 
-                ImportProgressDTO errorProgress = new ImportProgressDTO();
-                errorProgress.setImportId(historyId);
-                errorProgress.setFileName(history.getFileName());
-                errorProgress.setStatus("FAILED");
-                errorProgress.setErrorMessage(errorMessage);
-                progressMap.put(historyId, errorProgress);
-                notificationService.notifyImportProgress(errorProgress);
+                progressPublisher.fail(historyId, errorMessage);
             }
         } catch (Exception e) {
         }
     }
 
     public ImportProgressDTO getProgress(Long importId) {
-        ImportProgressDTO progress = progressMap.get(importId);
+        ImportProgressDTO progress = progressPublisher.get(importId);
         if (progress != null) {
             return progress;
         }
@@ -496,9 +889,21 @@ public class ImportService {
         if (!"admin".equalsIgnoreCase(userName)) {
             throw new SecurityException("Only admin can clear import history");
         }
+        importHistoryRepository.findAll().forEach(history -> {
+            uploadSpool.delete(history.getId());
+            errorReports.delete(history.getId());
+        });
         importHistoryRepository.deleteAll();
     }
 
+    public Path getErrorReport(Long importId) {
+        ImportHistory history = findHistory(importId);
+        if (history.getErrorReport() == null || !errorReports.exists(importId)) {
+            return null;
+        }
+        return errorReports.path(importId);
+    }
+
     private ImportHistoryDTO toDTO(ImportHistory history) {
         ImportHistoryDTO dto = new ImportHistoryDTO();
         dto.setId(history.getId());
@@ -514,6 +919,23 @@ public class ImportService {
         dto.setFailedRecords(history.getFailedRecords());
         dto.setErrorMessage(history.getErrorMessage());
         dto.setCurrentProgress(history.getCurrentProgress());
+        dto.setImportMode(history.getImportMode());
+        dto.setCheckpointRecords(history.getCheckpointRecords());
+        dto.setCompressedSize(history.getCompressedSize());
+        dto.setUncompressedSize(history.getUncompressedSize());
+        dto.setCarInternHits(history.getCarInternHits());
+        dto.setCarInternMisses(history.getCarInternMisses());
+        dto.setCoordinatesInternHits(history.getCoordinatesInternHits());
+        dto.setCoordinatesInternMisses(history.getCoordinatesInternMisses());
+        dto.setContentHash(history.getContentHash());
+        dto.setDuplicateOf(history.getDuplicateOf());
+        if (history.getErrorReport() != null) {
+            dto.setErrorReportUrl("/api/import/" + history.getId() + "/errors");
+        }
+        if (history.getStartTime() != null && history.getEndTime() != null && history.getSuccessfulRecords() != null) {
+            long elapsedMillis = Math.max(1, history.getEndTime().getTime() - history.getStartTime().getTime());
+            dto.setRowsPerSecond(history.getSuccessfulRecords() * 1000.0 / elapsedMillis);
+        }
         return dto;
     }
 }
\ No newline at end of file
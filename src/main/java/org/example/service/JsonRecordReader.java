@@ -0,0 +1,112 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.HumanBeingDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class JsonRecordReader implements ImportRecordReader {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private boolean inArray;
+    private boolean pendingObject;
+    private boolean finished;
+    private int lineNumber;
+
+    public JsonRecordReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+
+        JsonToken first = nextToken();
+        if (first == null) {
+            finished = true;
+        } else if (first == JsonToken.START_ARRAY) {
+            inArray = true;
+        } else if (first == JsonToken.START_OBJECT) {
+            pendingObject = true;
+        } else {
+            throw new IllegalArgumentException("Invalid JSON format: expected an array of objects or NDJSON");
+        }
+    }
+
+    @Override
+    public HumanBeingDTO next() throws IOException {
+        if (!advanceToObject()) {
+            return null;
+        }
+
+        int depth = parser.getParsingContext().getNestingDepth();
+        try {
+            return objectMapper.readValue(parser, HumanBeingDTO.class);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Invalid JSON format at line " + lineNumber + ": " + e.getOriginalMessage(), e);
+        } catch (JsonProcessingException e) {
+            skipRestOfObject(depth);
+            throw new ImportRecordException("Invalid JSON format at line " + lineNumber + ": " + e.getOriginalMessage(),
+                    lineNumber, e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public int skip(int records) throws IOException {
+        int skipped = 0;
+        while (skipped < records && advanceToObject()) {
+            parser.skipChildren();
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private boolean advanceToObject() throws IOException {
+        if (finished) {
+            return false;
+        }
+
+        JsonToken token = pendingObject ? parser.currentToken() : nextToken();
+        pendingObject = false;
+
+        if (token == null || (inArray && token == JsonToken.END_ARRAY)) {
+            finished = true;
+            return false;
+        }
+
+        lineNumber = parser.currentTokenLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Invalid JSON format at line " + lineNumber + ": expected an object");
+        }
+        return true;
+    }
+
+    private void skipRestOfObject(int depth) throws IOException {
+        while (parser.getParsingContext().getNestingDepth() >= depth) {
+            if (nextToken() == null) {
+                finished = true;
+                return;
+            }
+        }
+    }
+
+    private JsonToken nextToken() throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON format: " + e.getOriginalMessage(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedFileInputStream extends InputStream {
+
+    private static final long WINDOW_SIZE = 16L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+    private MappedByteBuffer window;
+
+    public MappedFileInputStream(Path file) throws IOException {
+        this(file, 0, Long.MAX_VALUE);
+    }
+
+    public MappedFileInputStream(Path file, long start, long end) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.end = Math.min(end, channel.size());
+        this.position = start;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureWindow()) {
+            return -1;
+        }
+        return window.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureWindow()) {
+            return -1;
+        }
+        int n = Math.min(len, window.remaining());
+        window.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long remaining = remaining();
+        long skipped = Math.max(0, Math.min(n, remaining));
+        if (skipped == 0) {
+            return 0;
+        }
+        long inWindow = window != null ? window.remaining() : 0;
+        if (window != null && skipped <= inWindow) {
+            window.position(window.position() + (int) skipped);
+        } else {
+            position += skipped - inWindow;
+            window = null;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, remaining());
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private long remaining() {
+        return (window != null ? window.remaining() : 0) + Math.max(0, end - position);
+    }
+
+    private boolean ensureWindow() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        if (position >= end) {
+            return false;
+        }
+        long size = Math.min(WINDOW_SIZE, end - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        position += size;
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package org.example.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RejectedRowWriter implements Closeable {
+
+    private final Path reportFile;
+    private BufferedWriter writer;
+    private int count;
+
+    public RejectedRowWriter(Path reportFile) {
+        this.reportFile = reportFile;
+    }
+
+    public void reject(int lineNumber, String reason) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(reportFile.getParent());
+                writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+                writer.write("line,reason\n");
+            }
+            writer.write(Integer.toString(lineNumber));
+            writer.write(',');
+            writeQuoted(reason != null ? reason : "");
+            writer.write('\n');
+            count++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private void writeQuoted(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
\ No newline at end of file
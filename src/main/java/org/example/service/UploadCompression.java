@@ -0,0 +1,68 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+public enum UploadCompression {
+    NONE,
+    GZIP,
+    ZIP;
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    public static UploadCompression of(String fileName) {
+        String lower = fileName != null ? fileName.toLowerCase() : "";
+        if (lower.endsWith(".gz")) {
+            return GZIP;
+        }
+        return lower.endsWith(".zip") ? ZIP : NONE;
+    }
+
+    public static boolean isDataFile(String fileName) {
+        String lower = fileName.toLowerCase();
+        return lower.endsWith(".csv") || lower.endsWith(".json") || lower.endsWith(".ndjson");
+    }
+
+    public String dataFileName(String fileName, Path spoolFile) throws IOException {
+        return switch (this) {
+            case NONE -> fileName;
+            case GZIP -> fileName.substring(0, fileName.length() - ".gz".length());
+            case ZIP -> {
+                try (ZipFile zip = new ZipFile(spoolFile.toFile())) {
+                    Enumeration<? extends ZipEntry> entries = zip.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        if (!entry.isDirectory() && isDataFile(entry.getName())) {
+                            yield entry.getName();
+                        }
+                    }
+                }
+                throw new IOException("ZIP archive contains no CSV, JSON or NDJSON file");
+            }
+        };
+    }
+
+    public InputStream decompress(InputStream input) throws IOException {
+        return switch (this) {
+            case NONE -> input;
+            case GZIP -> new GZIPInputStream(input, GZIP_BUFFER_SIZE);
+            case ZIP -> {
+                ZipInputStream zip = new ZipInputStream(input);
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    if (!entry.isDirectory() && isDataFile(entry.getName())) {
+                        yield zip;
+                    }
+                }
+                zip.close();
+                throw new IOException("ZIP archive contains no CSV, JSON or NDJSON file");
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.example.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Service
+public class UploadSpool {
+
+    @Value("${import.spool-dir:${java.io.tmpdir}/is-lab-imports}")
+    private Path spoolDir;
+
+    public record Upload(Path file, String sha256) {
+    }
+
+    public Upload store(MultipartFile file, Long importId) throws IOException {
+        Files.createDirectories(spoolDir);
+        Path spoolFile = path(importId);
+        MessageDigest digest = sha256();
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(input, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new Upload(spoolFile, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    public Path path(Long importId) {
+        return spoolDir.resolve("import-" + importId + ".tmp");
+    }
+
+    public boolean exists(Long importId) {
+        return Files.exists(path(importId));
+    }
+
+    public InputStream open(Path spoolFile) throws IOException {
+        return new MappedFileInputStream(spoolFile);
+    }
+
+    public InputStream open(Path spoolFile, long start, long end) throws IOException {
+        return new MappedFileInputStream(spoolFile, start, end);
+    }
+
+    public void delete(Long importId) {
+        try {
+            Files.deleteIfExists(path(importId));
+        } catch (IOException e) {
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
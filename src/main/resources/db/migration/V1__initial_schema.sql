@@ -0,0 +1,100 @@
+CREATE SEQUENCE IF NOT EXISTS cars_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS coordinates_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS human_beings_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS cars (
+    id   bigint NOT NULL PRIMARY KEY,
+    name varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS coordinates (
+    id bigint           NOT NULL PRIMARY KEY,
+    x  integer          NOT NULL CHECK (x <= 112),
+    y  double precision NOT NULL CHECK (y > -926)
+);
+
+CREATE TABLE IF NOT EXISTS human_beings (
+    id                 bigint       NOT NULL PRIMARY KEY,
+    name               varchar(255) NOT NULL,
+    coordinates_id     bigint       NOT NULL REFERENCES coordinates (id),
+    creation_date      timestamp(6) NOT NULL,
+    real_hero          boolean      NOT NULL,
+    has_toothpick      boolean,
+    car_id             bigint       NOT NULL REFERENCES cars (id),
+    mood               varchar(255) NOT NULL,
+    impact_speed       real         NOT NULL CHECK (impact_speed <= 345),
+    minutes_of_waiting real         NOT NULL,
+    weapon_type        varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS import_history (
+    id                 bigserial     NOT NULL PRIMARY KEY,
+    file_name          varchar(255)  NOT NULL,
+    file_type          varchar(255)  NOT NULL,
+    status             varchar(255)  NOT NULL,
+    user_name          varchar(255)  NOT NULL,
+    is_admin           boolean       NOT NULL,
+    start_time         timestamp(6)  NOT NULL,
+    end_time           timestamp(6),
+    total_records      integer,
+    successful_records integer,
+    failed_records     integer,
+    error_message      varchar(2000),
+    current_progress   integer
+);
+
+ALTER TABLE import_history
+    ADD COLUMN IF NOT EXISTS import_mode               varchar(32),
+    ADD COLUMN IF NOT EXISTS checkpoint_records        integer,
+    ADD COLUMN IF NOT EXISTS compressed_size           bigint,
+    ADD COLUMN IF NOT EXISTS uncompressed_size         bigint,
+    ADD COLUMN IF NOT EXISTS car_intern_hits           integer,
+    ADD COLUMN IF NOT EXISTS car_intern_misses         integer,
+    ADD COLUMN IF NOT EXISTS coordinates_intern_hits   integer,
+    ADD COLUMN IF NOT EXISTS coordinates_intern_misses integer,
+    ADD COLUMN IF NOT EXISTS error_report              varchar(255),
+    ADD COLUMN IF NOT EXISTS content_hash              varchar(64),
+    ADD COLUMN IF NOT EXISTS duplicate_of              bigint;
+
+ALTER TABLE human_beings
+    DROP CONSTRAINT IF EXISTS human_beings_mood_check,
+    ADD CONSTRAINT human_beings_mood_check CHECK (mood IN ('SADNESS', 'CALM', 'RAGE')),
+    DROP CONSTRAINT IF EXISTS human_beings_weapon_type_check,
+    ADD CONSTRAINT human_beings_weapon_type_check CHECK (weapon_type IN ('HAMMER', 'RIFLE', 'MACHINE_GUN', 'BAT'));
+
+ALTER TABLE import_history
+    DROP CONSTRAINT IF EXISTS import_history_status_check,
+    ADD CONSTRAINT import_history_status_check
+        CHECK (status IN ('QUEUED', 'IN_PROGRESS', 'PAUSED', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    DROP CONSTRAINT IF EXISTS import_history_import_mode_check,
+    ADD CONSTRAINT import_history_import_mode_check
+        CHECK (import_mode IN ('STANDARD', 'STREAMING', 'COPY', 'CHUNKED', 'PARALLEL', 'PARTIAL'));
+
+CREATE UNLOGGED TABLE IF NOT EXISTS import_staging (
+    import_id          bigint           NOT NULL,
+    line_number        integer          NOT NULL,
+    name               varchar(255)     NOT NULL,
+    x                  integer          NOT NULL,
+    y                  double precision NOT NULL,
+    real_hero          boolean          NOT NULL,
+    has_toothpick      boolean,
+    car_name           varchar(255),
+    mood               varchar(255)     NOT NULL,
+    impact_speed       real             NOT NULL,
+    minutes_of_waiting real             NOT NULL,
+    weapon_type        varchar(255)
+);
+
+CREATE INDEX IF NOT EXISTS import_staging_import_id_idx ON import_staging (import_id);
+
+SELECT setval('cars_seq', m.max_id)
+FROM (SELECT MAX(id) AS max_id FROM cars) m, cars_seq s
+WHERE m.max_id > s.last_value;
+
+SELECT setval('coordinates_seq', m.max_id)
+FROM (SELECT MAX(id) AS max_id FROM coordinates) m, coordinates_seq s
+WHERE m.max_id > s.last_value;
+
+SELECT setval('human_beings_seq', m.max_id)
+FROM (SELECT MAX(id) AS max_id FROM human_beings) m, human_beings_seq s
+WHERE m.max_id > s.last_value;
\ No newline at end of file
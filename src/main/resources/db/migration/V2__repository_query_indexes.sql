@@ -0,0 +1,28 @@
+CREATE INDEX IF NOT EXISTS cars_name_idx ON cars (name);
+
+CREATE INDEX IF NOT EXISTS coordinates_x_y_idx ON coordinates (x, y);
+
+CREATE INDEX IF NOT EXISTS human_beings_name_id_idx ON human_beings (name, id);
+CREATE INDEX IF NOT EXISTS human_beings_creation_date_id_idx ON human_beings (creation_date, id);
+CREATE INDEX IF NOT EXISTS human_beings_car_id_idx ON human_beings (car_id);
+CREATE INDEX IF NOT EXISTS human_beings_coordinates_id_idx ON human_beings (coordinates_id);
+CREATE INDEX IF NOT EXISTS human_beings_mood_idx ON human_beings (mood);
+CREATE INDEX IF NOT EXISTS human_beings_weapon_type_idx ON human_beings (weapon_type);
+CREATE INDEX IF NOT EXISTS human_beings_impact_speed_idx ON human_beings (impact_speed);
+
+CREATE INDEX IF NOT EXISTS human_beings_hero_id_idx ON human_beings (id) INCLUDE (mood) WHERE real_hero;
+CREATE INDEX IF NOT EXISTS human_beings_hero_speed_waiting_idx
+    ON human_beings (impact_speed, minutes_of_waiting) WHERE real_hero;
+
+DROP INDEX IF EXISTS import_history_content_hash_idx;
+CREATE INDEX IF NOT EXISTS import_history_content_hash_status_idx ON import_history (content_hash, status);
+CREATE INDEX IF NOT EXISTS import_history_user_name_start_time_idx ON import_history (user_name, start_time DESC);
+CREATE INDEX IF NOT EXISTS import_history_user_name_id_idx ON import_history (user_name, id DESC);
+CREATE INDEX IF NOT EXISTS import_history_start_time_idx ON import_history (start_time DESC);
+CREATE INDEX IF NOT EXISTS import_history_unfinished_status_idx
+    ON import_history (status) WHERE status IN ('QUEUED', 'IN_PROGRESS', 'PAUSED');
+
+ANALYZE cars;
+ANALYZE coordinates;
+ANALYZE human_beings;
+ANALYZE import_history;
\ No newline at end of file
@@ -0,0 +1,26 @@
+CREATE SEQUENCE IF NOT EXISTS human_beings_mutation_seq;
+
+ALTER TABLE import_history
+    ADD COLUMN IF NOT EXISTS mutation_generation bigint;
+
+CREATE OR REPLACE FUNCTION bump_human_beings_mutation_generation() RETURNS trigger AS $$
+BEGIN
+    PERFORM nextval('human_beings_mutation_seq');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS human_beings_mutation_generation_trg ON human_beings;
+CREATE TRIGGER human_beings_mutation_generation_trg
+    AFTER UPDATE OR DELETE OR TRUNCATE ON human_beings
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_human_beings_mutation_generation();
+
+DROP TRIGGER IF EXISTS cars_mutation_generation_trg ON cars;
+CREATE TRIGGER cars_mutation_generation_trg
+    AFTER UPDATE OR DELETE OR TRUNCATE ON cars
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_human_beings_mutation_generation();
+
+DROP TRIGGER IF EXISTS coordinates_mutation_generation_trg ON coordinates;
+CREATE TRIGGER coordinates_mutation_generation_trg
+    AFTER UPDATE OR DELETE OR TRUNCATE ON coordinates
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_human_beings_mutation_generation();
\ No newline at end of file
@@ -22,10 +22,10 @@ document.addEventListener('DOMContentLoaded', function () {
                     alert('Maximum 5 files');
                     break;
                 }
-                if (file.name.toLowerCase().endsWith('.csv') || file.name.toLowerCase().endsWith('.json')) {
+                if (/\.((csv|json|ndjson)(\.gz)?|zip)$/i.test(file.name)) {
                     selectedFiles.push(file);
                 } else {
-                    alert('File ' + file.name + ' is not CSV or JSON');
+                    alert('File ' + file.name + ' is not CSV, JSON, NDJSON, .gz or .zip');
                 }
             }
         }
@@ -172,10 +172,33 @@ function createProgressElement(importId, fileName) {
             <span>Successful: 0</span>
             <span>Failed: 0</span>
         </div>
+        <div class="progress-actions" id="actions-${importId}">
+            <button class="btn btn-small" onclick="controlImport(${importId}, 'pause')">Pause</button>
+            <button class="btn btn-small" onclick="controlImport(${importId}, 'resume')">Resume</button>
+            <button class="btn btn-danger btn-small" onclick="controlImport(${importId}, 'cancel')">Cancel</button>
+        </div>
     `;
     container.appendChild(progressDiv);
 }
 
+async function controlImport(importId, action) {
+    try {
+        const response = await fetch(`/api/import/${importId}/${action}`, {method: 'POST'});
+        const result = await response.json();
+        if (!response.ok) {
+            throw new Error(result.error || `Failed to ${action} import`);
+        }
+        startPolling(importId);
+    } catch (error) {
+        console.error('Import control error:', error);
+        alert(error.message);
+    }
+}
+
+function isFinished(status) {
+    return status === 'COMPLETED' || status === 'FAILED' || status === 'CANCELLED';
+}
+
 function updateProgress(progress) {
     const importId = progress.importId;
     let progressDiv = document.getElementById(`progress-${importId}`);
@@ -199,7 +222,7 @@ function updateProgress(progress) {
 
     if (status) {
         const statusText = progress.status || 'IN_PROGRESS';
-        status.textContent = statusText;
+        status.textContent = progress.queuePosition ? `${statusText} #${progress.queuePosition}` : statusText;
         status.className = 'progress-status status-' + statusText.toLowerCase().replace('_', '-');
     }
 
@@ -211,9 +234,14 @@ function updateProgress(progress) {
         `;
     }
 
-    if (progress.status === 'COMPLETED' || progress.status === 'FAILED') {
+    if (isFinished(progress.status)) {
         stopPolling(importId);
 
+        const actions = document.getElementById(`actions-${importId}`);
+        if (actions) {
+            actions.remove();
+        }
+
         if (window.currentView === 'table' && typeof window.loadTable === 'function') {
             window.loadTable();
         }
@@ -248,7 +276,7 @@ function startPolling(importId) {
                 const progress = await response.json();
                 updateProgress(progress);
 
-                if (progress.status === 'COMPLETED' || progress.status === 'FAILED') {
+                if (isFinished(progress.status)) {
                     stopPolling(importId);
                 }
             } else if (response.status === 404) {
@@ -318,7 +346,8 @@ function displayHistory(history) {
             <td>${item.successfulRecords || 0}</td>
             <td>${item.failedRecords || 0}</td>
             <td>${item.currentProgress || 0}%</td>
-            <td>${item.errorMessage || '-'}</td>
+            <td>${item.errorMessage || (item.errorReportUrl ? '' : '-')}${item.errorReportUrl
+                ? `<a href="${item.errorReportUrl}" download>Rejected rows (${item.failedRecords})</a>` : ''}</td>
         `;
         tbody.appendChild(row);
     });
@@ -0,0 +1,121 @@
+package org.example.controller;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.dto.CarDTO;
+import org.example.dto.CoordinatesDTO;
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.Mood;
+import org.example.service.ImportBatchWriter;
+import org.example.service.ImportInternCache;
+import org.example.service.ImportInternRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+class HumanBeingReadStatementCountTest {
+
+    private static final String PREFIX = "StmtCount_";
+    private static final float MINUTES_OF_WAITING = 4242.5f;
+    private static final double Y = 424242.5;
+    private static final int ROWS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ImportBatchWriter batchWriter;
+
+    @Autowired
+    private ImportInternRegistry internRegistry;
+
+    private Statistics statistics;
+    private Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        List<HumanBeingDTO> records = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            HumanBeingDTO dto = new HumanBeingDTO();
+            dto.setName(PREFIX + i);
+            dto.setCoordinates(new CoordinatesDTO(null, i, Y));
+            dto.setRealHero(false);
+            dto.setCar(new CarDTO(null, PREFIX + "Car_" + i));
+            dto.setMood(Mood.CALM);
+            dto.setImpactSpeed((float) i);
+            dto.setMinutesOfWaiting(MINUTES_OF_WAITING);
+            records.add(dto);
+        }
+        firstId = batchWriter.write(records, new ImportInternCache(internRegistry)).get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void listPageRunsOneSelectPlusExactCount() throws Exception {
+        assertStatements(2, mockMvc.perform(get("/api/human-beings")
+                        .param("size", String.valueOf(ROWS))
+                        .param("filter", "minutesOfWaiting=" + MINUTES_OF_WAITING)
+                        .param("countStrategy", "EXACT"))
+                .andExpect(jsonPath("$.content.length()").value(ROWS)));
+    }
+
+    @Test
+    void cursorPageRunsOneSelect() throws Exception {
+        assertStatements(1, mockMvc.perform(get("/api/human-beings/cursor")
+                        .param("size", String.valueOf(ROWS))
+                        .param("filter", "minutesOfWaiting=" + MINUTES_OF_WAITING))
+                .andExpect(jsonPath("$.content.length()").value(ROWS)));
+    }
+
+    @Test
+    void findByIdRunsOneSelect() throws Exception {
+        assertStatements(1, mockMvc.perform(get("/api/human-beings/{id}", firstId))
+                .andExpect(jsonPath("$.car.name").value(PREFIX + "Car_0")));
+    }
+
+    @Test
+    void searchByNameRunsOneSelect() throws Exception {
+        assertStatements(1, mockMvc.perform(get("/api/human-beings/special/search-by-name")
+                        .param("substring", PREFIX))
+                .andExpect(jsonPath("$.length()").value(ROWS)));
+    }
+
+    @Test
+    void averageImpactSpeedRunsOneSelect() throws Exception {
+        assertStatements(1, mockMvc.perform(get("/api/human-beings/special/average-impact-speed")));
+    }
+
+    private void assertStatements(long expected, ResultActions request) throws Exception {
+        request.andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+}
\ No newline at end of file
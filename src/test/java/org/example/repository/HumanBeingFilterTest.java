@@ -0,0 +1,150 @@
+package org.example.repository;
+
+import org.example.entity.Mood;
+import org.example.entity.WeaponType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HumanBeingFilterTest {
+
+    @Test
+    void blankExpressionHasNoConditions() {
+        assertThat(HumanBeingFilter.parse(null)).isSameAs(HumanBeingFilter.NONE);
+        assertThat(HumanBeingFilter.parse("  ")).isSameAs(HumanBeingFilter.NONE);
+        assertThat(HumanBeingFilter.parse(";;").isEmpty()).isTrue();
+    }
+
+    @Test
+    void parsesTypedConditions() {
+        HumanBeingFilter filter = HumanBeingFilter.parse(
+                "mood=RAGE; impactSpeed > 100 ;car.name=Lada;coordinates.x<=5;realHero=TRUE");
+
+        assertThat(filter.getConditions()).containsExactly(
+                new HumanBeingFilter.Condition(HumanBeingProperty.MOOD, HumanBeingFilter.Operator.EQ, Mood.RAGE),
+                new HumanBeingFilter.Condition(HumanBeingProperty.IMPACT_SPEED, HumanBeingFilter.Operator.GT, 100f),
+                new HumanBeingFilter.Condition(HumanBeingProperty.CAR_NAME, HumanBeingFilter.Operator.EQ, "Lada"),
+                new HumanBeingFilter.Condition(HumanBeingProperty.COORDINATES_X, HumanBeingFilter.Operator.LE, 5),
+                new HumanBeingFilter.Condition(HumanBeingProperty.REAL_HERO, HumanBeingFilter.Operator.EQ, true));
+    }
+
+    @Test
+    void distinguishesNotEqualsFromEquals() {
+        assertThat(HumanBeingFilter.parse("mood!=RAGE").getConditions().get(0).operator())
+                .isEqualTo(HumanBeingFilter.Operator.NE);
+        assertThat(HumanBeingFilter.parse("mood=RAGE").getConditions().get(0).operator())
+                .isEqualTo(HumanBeingFilter.Operator.EQ);
+        assertThat(HumanBeingFilter.parse("impactSpeed>=1").getConditions().get(0).operator())
+                .isEqualTo(HumanBeingFilter.Operator.GE);
+        assertThat(HumanBeingFilter.parse("name!=a=b").getConditions().get(0))
+                .isEqualTo(new HumanBeingFilter.Condition(HumanBeingProperty.NAME, HumanBeingFilter.Operator.NE,
+                        "a=b"));
+    }
+
+    @Test
+    void nullMatchesMissingValuesOfNullableProperties() {
+        assertThat(HumanBeingFilter.parse("weaponType=null").getConditions().get(0))
+                .isEqualTo(new HumanBeingFilter.Condition(HumanBeingProperty.WEAPON_TYPE,
+                        HumanBeingFilter.Operator.EQ, null));
+        assertThat(HumanBeingFilter.parse("car.name!=null").getConditions().get(0))
+                .isEqualTo(new HumanBeingFilter.Condition(HumanBeingProperty.CAR_NAME,
+                        HumanBeingFilter.Operator.NE, null));
+        assertThat(HumanBeingFilter.parse("name=null").getConditions().get(0).value()).isEqualTo("null");
+
+        assertThatThrownBy(() -> HumanBeingFilter.parse("car.name>null"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Only = and != can compare car.name to null");
+        assertThatThrownBy(() -> HumanBeingFilter.parse("mood=null"))
+                .hasMessage("Invalid value for mood: null");
+    }
+
+    @Test
+    void predicateComplementsNotEqualsOnNullableProperties() {
+        assertThat(condition("weaponType!=BAT").predicate("weapon_type", "?"))
+                .isEqualTo("(weapon_type <> ? OR weapon_type IS NULL)");
+        assertThat(condition("mood!=RAGE").predicate("mood", "?")).isEqualTo("mood <> ?");
+        assertThat(condition("impactSpeed>=1").predicate("h.impactSpeed", ":p0")).isEqualTo("h.impactSpeed >= :p0");
+        assertThat(condition("weaponType!=null").predicate("weapon_type", "?")).isEqualTo("weapon_type IS NOT NULL");
+    }
+
+    @Test
+    void capsTheNumberOfConditions() {
+        String sixteen = String.join(";", Collections.nCopies(16, "impactSpeed>1"));
+
+        assertThat(HumanBeingFilter.parse(sixteen).getConditions()).hasSize(16);
+        assertThatThrownBy(() -> HumanBeingFilter.parse(sixteen + ";mood=RAGE"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Filter cannot have more than 16 conditions");
+    }
+
+    @Test
+    void rejectsValuesThatDoNotParseAsThePropertyType() {
+        assertInvalid("id=1.5", "Invalid value for id: 1.5");
+        assertInvalid("coordinates.x=abc", "Invalid value for coordinates.x: abc");
+        assertInvalid("coordinates.y=north", "Invalid value for coordinates.y: north");
+        assertInvalid("creationDate=yesterday", "Invalid value for creationDate: yesterday");
+        assertInvalid("realHero=yes", "Invalid value for realHero: yes");
+        assertInvalid("hasToothpick=1", "Invalid value for hasToothpick: 1");
+        assertInvalid("mood=HAPPY", "Invalid value for mood: HAPPY");
+        assertInvalid("impactSpeed=fast", "Invalid value for impactSpeed: fast");
+        assertInvalid("minutesOfWaiting=", "Filter value for minutesOfWaiting cannot be empty");
+        assertInvalid("weaponType=SWORD", "Invalid value for weaponType: SWORD");
+    }
+
+    @Test
+    void rejectsMalformedConditions() {
+        assertInvalid("mood", "Filter condition has no operator: mood");
+        assertInvalid("mood!RAGE", "Unsupported filter operator in: mood!RAGE");
+        assertInvalid("height=3", "Unsupported property: height");
+        assertInvalid("mood>RAGE", "Only = and != are supported for mood");
+        assertInvalid("weaponType<HAMMER", "Only = and != are supported for weaponType");
+    }
+
+    @Test
+    void backslashEscapesSemicolonsAndItself() {
+        HumanBeingFilter filter = HumanBeingFilter.parse("name=a\\;b;car.name=c\\\\;weaponType=BAT");
+
+        assertThat(filter.getConditions()).extracting(HumanBeingFilter.Condition::value)
+                .containsExactly("a;b", "c\\", WeaponType.BAT);
+        assertThat(HumanBeingFilter.parse(filter.toString()).getConditions()).isEqualTo(filter.getConditions());
+    }
+
+    @Test
+    void escapedValuesKeepFiltersDistinct() {
+        HumanBeingFilter oneCondition = HumanBeingFilter.parse("name=a\\;mood=RAGE");
+        HumanBeingFilter twoConditions = HumanBeingFilter.parse("name=a;mood=RAGE");
+
+        assertThat(oneCondition.getConditions()).hasSize(1);
+        assertThat(oneCondition.toString()).isNotEqualTo(twoConditions.toString());
+    }
+
+    @Test
+    void shapeIgnoresValuesButNotNullChecks() {
+        assertThat(HumanBeingFilter.parse("mood=RAGE;impactSpeed>1").shape())
+                .isEqualTo(HumanBeingFilter.parse("mood=CALM;impactSpeed>200").shape());
+        assertThat(HumanBeingFilter.parse("weaponType=null").shape())
+                .isNotEqualTo(HumanBeingFilter.parse("weaponType=BAT").shape());
+    }
+
+    @Test
+    void andAppendsConditions() {
+        HumanBeingFilter combined = HumanBeingFilter.exact("mood", "RAGE").and(HumanBeingFilter.parse("realHero=true"));
+
+        assertThat(combined.toString()).isEqualTo("mood=RAGE;realHero=true");
+        assertThat(HumanBeingFilter.NONE.and(combined)).isSameAs(combined);
+        assertThat(combined.and(HumanBeingFilter.NONE)).isSameAs(combined);
+    }
+
+    private HumanBeingFilter.Condition condition(String expression) {
+        return HumanBeingFilter.parse(expression).getConditions().get(0);
+    }
+
+    private void assertInvalid(String expression, String message) {
+        assertThatThrownBy(() -> HumanBeingFilter.parse(expression))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.entity.HumanBeing;
+import org.example.entity.Mood;
+import org.example.entity.WeaponType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HumanBeingRepositoryImplTest {
+
+    private static final String SELECT = "SELECT h FROM HumanBeing h JOIN FETCH h.coordinates JOIN FETCH h.car";
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<HumanBeing> query;
+
+    @Mock
+    private TypedQuery<Long> countQuery;
+
+    @InjectMocks
+    private HumanBeingRepositoryImpl repository;
+
+    @Test
+    void compilesConditionsToParameterizedPredicates() {
+        String jpql = find("mood=RAGE;impactSpeed>100;car.name=Lada");
+
+        assertThat(jpql).isEqualTo(SELECT +
+                " WHERE h.mood = :p0 AND h.impactSpeed > :p1 AND h.car.name = :p2 ORDER BY h.id ASC");
+        verify(query).setParameter("p0", Mood.RAGE);
+        verify(query).setParameter("p1", 100f);
+        verify(query).setParameter("p2", "Lada");
+    }
+
+    @Test
+    void notEqualsOnNullablePropertyAlsoMatchesMissingValues() {
+        assertThat(find("weaponType!=HAMMER"))
+                .isEqualTo(SELECT + " WHERE (h.weaponType <> :p0 OR h.weaponType IS NULL) ORDER BY h.id ASC");
+        verify(query).setParameter("p0", WeaponType.HAMMER);
+    }
+
+    @Test
+    void notEqualsOnRequiredPropertyStaysIndexable() {
+        assertThat(find("mood!=RAGE")).isEqualTo(SELECT + " WHERE h.mood <> :p0 ORDER BY h.id ASC");
+    }
+
+    @Test
+    void nullComparisonsCompileToNullChecksWithoutParameters() {
+        assertThat(find("weaponType=null;car.name!=null"))
+                .isEqualTo(SELECT + " WHERE h.weaponType IS NULL AND h.car.name IS NOT NULL ORDER BY h.id ASC");
+        verify(query, never()).setParameter(anyString(), eq(null));
+    }
+
+    @Test
+    void countUsesTheSameConditions() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createQuery(jpql.capture(), eq(Long.class))).thenReturn(countQuery);
+        when(countQuery.getSingleResult()).thenReturn(3L);
+
+        assertThat(repository.countMatching(HumanBeingFilter.parse("realHero=true;coordinates.y<0"))).isEqualTo(3);
+        assertThat(jpql.getValue())
+                .isEqualTo("SELECT COUNT(h) FROM HumanBeing h WHERE h.realHero = :p0 AND h.coordinates.y < :p1");
+        verify(countQuery).setParameter("p0", true);
+        verify(countQuery).setParameter("p1", 0.0);
+    }
+
+    @Test
+    void reusesTheCompiledShapeForNewValues() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createQuery(jpql.capture(), eq(HumanBeing.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+
+        repository.findMatching(HumanBeingFilter.parse("mood=RAGE"), PageRequest.of(0, 10));
+        repository.findMatching(HumanBeingFilter.parse("mood=CALM"), PageRequest.of(0, 10));
+
+        assertThat(jpql.getAllValues().get(1)).isSameAs(jpql.getAllValues().get(0));
+        verify(query).setParameter("p0", Mood.RAGE);
+        verify(query).setParameter("p0", Mood.CALM);
+        verify(query, times(2)).setMaxResults(11);
+    }
+
+    private String find(String filter) {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createQuery(jpql.capture(), eq(HumanBeing.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+
+        repository.findMatching(HumanBeingFilter.parse(filter), PageRequest.of(0, 10));
+        return jpql.getValue();
+    }
+}
\ No newline at end of file
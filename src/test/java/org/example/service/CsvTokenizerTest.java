@@ -0,0 +1,105 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvTokenizerTest {
+
+    private static final List<String> INTS = List.of(
+            "0", "-0", "+0", "7", "-7", "+42", "00000000042", "-00000000042", "0000000000000000",
+            "2147483647", "-2147483648", "2147483648", "-2147483649", "9999999999", "12345678901",
+            "000002147483647", "1.0", "1e3", "abc", "-", "+", "--1", "4 2");
+
+    private static final List<String> DECIMALS = List.of(
+            "0", "-0", "0.0", "-0.0", "1", "-1", "+1.5", ".5", "5.", ".", "-.", "0.1", "0.3", "-901.5",
+            "3.141592653589793", "123456789012345", "1234567890123456", "0.000000000000000000001",
+            "00000000000000001.25", "1e10", "1E-5", "-2.5e3", "NaN", "Infinity", "-Infinity",
+            "1.2.3", "1_5", "abc", "345.0000001", "16777217", "0.1234567", "9999999.5");
+
+    @Test
+    void getIntMatchesIntegerParseInt() throws IOException {
+        List<String> samples = new ArrayList<>(INTS);
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            samples.add(Long.toString(random.nextLong() >> random.nextInt(64)));
+            samples.add("0".repeat(random.nextInt(12)) + random.nextInt(Integer.MAX_VALUE));
+        }
+
+        assertParity(samples, Integer::parseInt, CsvTokenizer::getInt);
+    }
+
+    @Test
+    void getDoubleMatchesDoubleParseDouble() throws IOException {
+        List<String> samples = new ArrayList<>(DECIMALS);
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            samples.add(Double.toString((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20))));
+            samples.add(random.nextInt(1_000_000) + "." + random.nextInt(1_000_000_000));
+        }
+
+        assertParity(samples, Double::parseDouble, CsvTokenizer::getDouble);
+    }
+
+    @Test
+    void getFloatMatchesFloatParseFloat() throws IOException {
+        List<String> samples = new ArrayList<>(DECIMALS);
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            samples.add(Float.toString((random.nextFloat() - 0.5f) * (float) Math.pow(10, random.nextInt(10))));
+            samples.add(random.nextInt(1000) + "." + random.nextInt(10_000));
+        }
+
+        assertParity(samples, Float::parseFloat, CsvTokenizer::getFloat);
+    }
+
+    @Test
+    void blankNumericFieldIsRejected() throws IOException {
+        CsvTokenizer tokenizer = tokenize("1,,3");
+
+        assertThat(tokenizer.getInt(0)).isEqualTo(1);
+        assertThatThrownBy(() -> tokenizer.getInt(1)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> tokenizer.getDouble(1)).isInstanceOf(NumberFormatException.class);
+    }
+
+    private <T> void assertParity(List<String> samples, Function<String, T> expected, FieldParser<T> actual)
+            throws IOException {
+        CsvTokenizer tokenizer = tokenize(String.join(",", samples));
+        assertThat(tokenizer.getFieldCount()).isEqualTo(samples.size());
+
+        for (int i = 0; i < samples.size(); i++) {
+            String sample = samples.get(i);
+            Object want;
+            try {
+                want = expected.apply(sample);
+            } catch (NumberFormatException e) {
+                want = NumberFormatException.class;
+            }
+            Object got;
+            try {
+                got = actual.parse(tokenizer, i);
+            } catch (NumberFormatException e) {
+                got = NumberFormatException.class;
+            }
+            assertThat(got).as("parsing \"%s\"", sample).isEqualTo(want);
+        }
+    }
+
+    private CsvTokenizer tokenize(String line) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(line + "\n"), 0);
+        assertThat(tokenizer.next()).isTrue();
+        return tokenizer;
+    }
+
+    private interface FieldParser<T> {
+        T parse(CsvTokenizer tokenizer, int field);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package org.example.service;
+
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.Car;
+import org.example.entity.Coordinates;
+import org.example.entity.HumanBeing;
+import org.example.repository.HumanBeingRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Tag("benchmark")
+class ImportBatchWriterBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportBatchWriterBenchmark.class);
+
+    private static final Path SAMPLE = Path.of("import", "import_1.csv");
+    private static final int ROUNDS = 3;
+
+    private static List<HumanBeingDTO> readSample() throws IOException {
+        List<HumanBeingDTO> records = new ArrayList<>();
+        try (InputStream input = Files.newInputStream(SAMPLE);
+             ImportRecordReader reader = new CsvRecordReader(input)) {
+            HumanBeingDTO dto;
+            while ((dto = reader.next()) != null) {
+                records.add(dto);
+            }
+        }
+        return records;
+    }
+
+    private static void report(String path, int rows, Runnable write) {
+        write.run();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            write.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        log.info("{} via {}: {} rows, {} rows/s", SAMPLE, path, rows, Math.round(rows * 1e9 / best));
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "spring.flyway.schemas=import_benchmark_legacy",
+            "spring.datasource.hikari.schema=import_benchmark_legacy",
+            "spring.jpa.mapping-resources=legacy-identity-orm.xml",
+            "spring.jpa.show-sql=false"})
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class LegacySavePerRow {
+
+        @Autowired
+        private HumanBeingRepository humanBeingRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @BeforeAll
+        void useIdentityIds() {
+            for (String table : List.of("cars", "coordinates", "human_beings")) {
+                Boolean identity = jdbcTemplate.queryForObject("SELECT is_identity = 'YES' " +
+                        "FROM information_schema.columns WHERE table_schema = current_schema() " +
+                        "AND table_name = ? AND column_name = 'id'", Boolean.class, table);
+                if (!Boolean.TRUE.equals(identity)) {
+                    jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY");
+                }
+            }
+        }
+
+        @AfterAll
+        void dropSchema() {
+            jdbcTemplate.execute("DROP SCHEMA import_benchmark_legacy CASCADE");
+        }
+
+        @Test
+        void saveOneRowPerTransaction() throws IOException {
+            List<HumanBeingDTO> records = readSample();
+            report("humanBeingRepository.save per row", records.size(),
+                    () -> records.forEach(dto -> humanBeingRepository.save(toEntity(dto))));
+        }
+
+        private HumanBeing toEntity(HumanBeingDTO dto) {
+            Coordinates coords = new Coordinates();
+            coords.setX(dto.getCoordinates().getX());
+            coords.setY(dto.getCoordinates().getY());
+
+            Car car = new Car();
+            car.setName(dto.getCar().getName());
+
+            HumanBeing entity = new HumanBeing();
+            entity.setName(dto.getName());
+            entity.setCoordinates(coords);
+            entity.setCar(car);
+            entity.setRealHero(dto.getRealHero());
+            entity.setHasToothpick(dto.getHasToothpick());
+            entity.setMood(dto.getMood());
+            entity.setImpactSpeed(dto.getImpactSpeed());
+            entity.setMinutesOfWaiting(dto.getMinutesOfWaiting());
+            entity.setWeaponType(dto.getWeaponType());
+            entity.setCreationDate(new Date());
+            return entity;
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "spring.flyway.schemas=import_benchmark_batched",
+            "spring.datasource.hikari.schema=import_benchmark_batched",
+            "spring.jpa.show-sql=false"})
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class BatchedChunks {
+
+        @Autowired
+        private ImportBatchWriter batchWriter;
+
+        @Autowired
+        private ImportInternRegistry internRegistry;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Value("${import.chunk-size:500}")
+        private int chunkSize;
+
+        @AfterAll
+        void dropSchema() {
+            jdbcTemplate.execute("DROP SCHEMA import_benchmark_batched CASCADE");
+        }
+
+        @Test
+        void writeOneChunkPerTransaction() throws IOException {
+            List<HumanBeingDTO> records = readSample();
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            report("ImportBatchWriter per chunk", records.size(), () -> {
+                ImportInternCache internCache = new ImportInternCache(internRegistry);
+                for (int from = 0; from < records.size(); from += chunkSize) {
+                    List<HumanBeingDTO> chunk = records.subList(from, Math.min(records.size(), from + chunkSize));
+                    transactionTemplate.executeWithoutResult(status -> batchWriter.write(chunk, internCache));
+                }
+            });
+        }
+    }
+}
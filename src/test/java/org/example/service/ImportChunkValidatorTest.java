@@ -0,0 +1,99 @@
+package org.example.service;
+
+import org.example.dto.CarDTO;
+import org.example.dto.CoordinatesDTO;
+import org.example.dto.HumanBeingDTO;
+import org.example.entity.Mood;
+import org.example.repository.HumanBeingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportChunkValidatorTest {
+
+    @Mock
+    private HumanBeingRepository humanBeingRepository;
+
+    @Mock
+    private ImportMetrics metrics;
+
+    @InjectMocks
+    private ImportChunkValidator validator;
+
+    @Test
+    void rejectsRowsDuplicatedInTheFile() {
+        when(humanBeingRepository.findNameCoordinateKeys(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(humanBeingRepository.findHeroKeys(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        ImportChunk chunk = chunk(hero("Ann", 1, 2.0, 10f), hero("Ann", 1, 2.0, 20f), hero("Bob", 1, 2.0, 10f));
+        validator.validate(chunk, new ImportKeySet());
+
+        assertThat(chunk.isRejected(0)).isFalse();
+        assertThat(chunk.error(1)).endsWith("is duplicated in the file");
+        assertThat(chunk.error(2)).startsWith("Hero with impactSpeed 10.0").endsWith("is duplicated in the file");
+    }
+
+    @Test
+    void rowRejectedAsExistingReleasesItsFileKeys() {
+        List<Object[]> existing = List.<Object[]>of(new Object[]{"Ann", 1, 2.0});
+        when(humanBeingRepository.findNameCoordinateKeys(anyCollection(), anyCollection())).thenReturn(existing);
+        when(humanBeingRepository.findHeroKeys(anyCollection(), anyCollection())).thenReturn(List.of());
+        ImportKeySet fileKeys = new ImportKeySet();
+
+        ImportChunk first = chunk(hero("Ann", 1, 2.0, 10f));
+        validator.validate(first, fileKeys);
+        assertThat(first.error(0)).endsWith("already exists");
+
+        ImportChunk second = chunk(hero("Bob", 3, 4.0, 10f), hero("Ann", 1, 2.0, 30f));
+        validator.validate(second, fileKeys);
+
+        assertThat(second.isRejected(0)).isFalse();
+        assertThat(second.error(1)).endsWith("already exists");
+    }
+
+    @Test
+    void heroRejectedAsExistingReleasesItsNameKey() {
+        List<Object[]> existingHeroes = List.<Object[]>of(new Object[]{10f, 1f});
+        when(humanBeingRepository.findNameCoordinateKeys(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(humanBeingRepository.findHeroKeys(anyCollection(), anyCollection())).thenReturn(existingHeroes);
+        ImportKeySet fileKeys = new ImportKeySet();
+
+        ImportChunk first = chunk(hero("Ann", 1, 2.0, 10f));
+        validator.validate(first, fileKeys);
+        assertThat(first.error(0)).endsWith("already exists");
+
+        ImportChunk second = chunk(hero("Ann", 1, 2.0, 20f));
+        validator.validate(second, fileKeys);
+
+        assertThat(second.isRejected(0)).isFalse();
+    }
+
+    private ImportChunk chunk(HumanBeingDTO... records) {
+        ImportChunk chunk = new ImportChunk(records.length);
+        for (int i = 0; i < records.length; i++) {
+            chunk.add(records[i], i + 2);
+        }
+        return chunk;
+    }
+
+    private HumanBeingDTO hero(String name, int x, double y, float impactSpeed) {
+        HumanBeingDTO dto = new HumanBeingDTO();
+        dto.setName(name);
+        dto.setCoordinates(new CoordinatesDTO(null, x, y));
+        dto.setRealHero(true);
+        dto.setCar(new CarDTO(null, "Lada"));
+        dto.setMood(Mood.CALM);
+        dto.setImpactSpeed(impactSpeed);
+        dto.setMinutesOfWaiting(1f);
+        return dto;
+    }
+}
\ No newline at end of file
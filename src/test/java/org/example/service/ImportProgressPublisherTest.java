@@ -0,0 +1,98 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.controller.WebSocketNotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImportProgressPublisherTest {
+
+    @Mock
+    private WebSocketNotificationService notificationService;
+
+    @Mock
+    private ImportMetrics metrics;
+
+    @InjectMocks
+    private ImportProgressPublisher publisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publisher, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(publisher, "minIntervalMs", 0L);
+        ReflectionTestUtils.setField(publisher, "minPercentStep", 1);
+        ReflectionTestUtils.setField(publisher, "retentionMs", 60_000L);
+        ReflectionTestUtils.setField(publisher, "maxEntries", 3);
+        publisher.registerMeters();
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void evictsOnlyFinishedImportsInFinishOrder() {
+        publisher.start(1L, "a.csv");
+        publisher.start(2L, "b.csv");
+        publisher.start(3L, "c.csv");
+        publisher.complete(3L, 1, 1, 1, 0);
+        publisher.complete(2L, 1, 1, 1, 0);
+
+        publisher.start(4L, "d.csv");
+        assertThat(publisher.get(3L)).isNull();
+        assertThat(publisher.get(2L)).isNotNull();
+
+        publisher.start(5L, "e.csv");
+        assertThat(publisher.get(2L)).isNull();
+        assertThat(publisher.get(1L)).isNotNull();
+
+        assertThat(meterRegistry.get("import.progress.evictions").tag("reason", "capacity").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void keepsRunningImportsWhenTheRegistryIsFull() {
+        publisher.start(1L, "a.csv");
+        publisher.start(2L, "b.csv");
+        publisher.start(3L, "c.csv");
+
+        publisher.start(4L, "d.csv");
+        assertThat(publisher.get(1L)).isNotNull();
+        assertThat(publisher.get(4L)).isNotNull();
+        assertThat(meterRegistry.get("import.progress.registry.size").gauge().value()).isEqualTo(4);
+
+        publisher.complete(2L, 1, 1, 1, 0);
+        publisher.complete(3L, 1, 1, 1, 0);
+        publisher.start(5L, "e.csv");
+        assertThat(publisher.get(2L)).isNull();
+        assertThat(publisher.get(3L)).isNull();
+        assertThat(publisher.get(1L)).isNotNull();
+        assertThat(meterRegistry.get("import.progress.registry.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void countsNotificationsThatFailToSend() {
+        doThrow(new IllegalStateException("broker down")).when(notificationService).notifyImportProgress(any());
+
+        publisher.start(1L, "a.csv");
+        publisher.status(1L, "IN_PROGRESS");
+
+        verify(metrics, timeout(5000)).recordProgressFailure("send");
+    }
+}
\ No newline at end of file